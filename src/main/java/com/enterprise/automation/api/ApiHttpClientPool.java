@@ -0,0 +1,157 @@
+package com.enterprise.automation.api;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.client.params.HttpClientParams;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM-wide pooled HTTP client for API tests
+ *
+ * Features:
+ * - One keep-alive connection pool shared by every API test and thread
+ * - Total and per-route connection limits from automation.api
+ * - Idle connections evicted in the background
+ * - Response bodies buffered so connections go back to the pool after every request
+ * - Thread-safe factory for per-test RequestSpecifications; the global RestAssured.config is never touched
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class ApiHttpClientPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiHttpClientPool.class);
+
+    /**
+     * RestAssured reads the body lazily, so a test that only asserts the status code would keep
+     * its pooled connection leased forever. Buffering the body reads the stream to the end,
+     * which hands the connection back to the pool.
+     */
+    private static final Filter RELEASE_CONNECTION = (requestSpec, responseSpec, context) -> {
+        Response response = context.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    };
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    // Deprecated 4.2-style pool, see start()
+    @SuppressWarnings("deprecation")
+    private PoolingClientConnectionManager connectionManager;
+    private RestAssuredConfig restAssuredConfig;
+    private ScheduledExecutorService idleConnectionEvictor;
+
+    @PostConstruct
+    @SuppressWarnings("deprecation")
+    public void start() {
+        FrameworkConfig.Api apiConfig = frameworkConfig.getApi();
+
+        // RestAssured's HTTPBuilder only accepts AbstractHttpClient, so the pool has to use the 4.2-style API
+        connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(apiConfig.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(apiConfig.getMaxConnectionsPerRoute());
+
+        // RestAssured mutates client params per request, so every request gets its own
+        // lightweight client; the connections underneath are shared
+        restAssuredConfig = RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(this::newHttpClient));
+
+        if (apiConfig.getIdleConnectionTimeout() > 0) {
+            idleConnectionEvictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "api-idle-connection-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            idleConnectionEvictor.scheduleWithFixedDelay(this::evictIdleConnections,
+                    apiConfig.getIdleConnectionTimeout(), apiConfig.getIdleConnectionTimeout(), TimeUnit.SECONDS);
+        }
+
+        logger.info("API connection pool ready (max connections: {}, per route: {})",
+                apiConfig.getMaxConnections(), apiConfig.getMaxConnectionsPerRoute());
+    }
+
+    /**
+     * Create a request specification backed by the shared connection pool.
+     * Safe to call from any thread; each call returns an independent specification.
+     *
+     * @return Specification with base URI and default headers from automation.api
+     */
+    public RequestSpecification newRequestSpec() {
+        FrameworkConfig.Api apiConfig = frameworkConfig.getApi();
+
+        RequestSpecification spec = RestAssured.given()
+                .config(restAssuredConfig)
+                .filter(RELEASE_CONNECTION)
+                .baseUri(apiConfig.getBaseUrl());
+        if (apiConfig.getHeaders() != null) {
+            spec.headers(apiConfig.getHeaders());
+        }
+        return spec;
+    }
+
+    /**
+     * Get the RestAssured configuration that routes requests through the shared pool
+     */
+    public RestAssuredConfig getRestAssuredConfig() {
+        return restAssuredConfig;
+    }
+
+    /**
+     * Get leased, idle and pending connection counts across all routes
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (idleConnectionEvictor != null) {
+            idleConnectionEvictor.shutdownNow();
+        }
+        connectionManager.shutdown();
+    }
+
+    @SuppressWarnings("deprecation")
+    private DefaultHttpClient newHttpClient() {
+        int timeoutMillis = frameworkConfig.getApi().getTimeout() * 1000;
+
+        DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager);
+        HttpParams params = httpClient.getParams();
+        HttpConnectionParams.setConnectionTimeout(params, timeoutMillis);
+        HttpConnectionParams.setSoTimeout(params, timeoutMillis);
+        HttpClientParams.setConnectionManagerTimeout(params, timeoutMillis);
+        return httpClient;
+    }
+
+    private void evictIdleConnections() {
+        try {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(frameworkConfig.getApi().getIdleConnectionTimeout(), TimeUnit.SECONDS);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to evict idle API connections: {}", e.getMessage());
+        }
+    }
+}
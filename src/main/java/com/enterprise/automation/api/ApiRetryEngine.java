@@ -0,0 +1,287 @@
+package com.enterprise.automation.api;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Retry engine for API calls
+ *
+ * Features:
+ * - Up to automation.api.retry-count retries for failed or retryable calls
+ * - Exponential backoff with full jitter between attempts
+ * - Global retry budget, so a degraded service does not get hit by a retry storm
+ * - Optional hedged requests for idempotent calls to cut tail latency
+ * - Counters for every outcome
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class ApiRetryEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiRetryEngine.class);
+
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(429, 502, 503, 504);
+
+    // Budget is kept in thousandths of a retry so percentages deposit exactly
+    private static final long TOKEN = 1000;
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    private final AtomicLong budget = new AtomicLong(-1);
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retriesExhausted = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * Snapshot of the retry counters
+     *
+     * @param calls Logical calls, each of which may have made several attempts
+     * @param successes Calls that ended with a non-retryable result
+     * @param failures Calls that ended with an error or a retryable result
+     * @param retries Retry attempts sent
+     * @param retriesExhausted Calls that failed after using every retry
+     * @param budgetExhausted Retries or hedges skipped because the retry budget was empty
+     * @param hedges Backup requests sent
+     * @param hedgeWins Backup requests that answered before the original
+     */
+    public record RetryStats(long calls, long successes, long failures, long retries, long retriesExhausted,
+                             long budgetExhausted, long hedges, long hedgeWins) {
+    }
+
+    /**
+     * Check whether an HTTP status is worth retrying
+     */
+    public static boolean isRetryableStatus(int statusCode) {
+        return RETRYABLE_STATUS_CODES.contains(statusCode);
+    }
+
+    /**
+     * Check whether an error is worth retrying: I/O failures and timeouts are, anything else is a bug
+     */
+    public static boolean isRetryableError(Throwable error) {
+        return unwrap(error) instanceof IOException;
+    }
+
+    /**
+     * Run a blocking call with retries. Meant for RestAssured calls; the backoff sleeps the calling thread.
+     *
+     * @param call Call to run
+     * @param retryableResult Tells whether a result should be retried, e.g. on a 503
+     * @return Last result of the call
+     */
+    public <T> T execute(Supplier<T> call, Predicate<T> retryableResult) {
+        onCall();
+        int maxRetries = getApiConfig().getRetryCount();
+
+        for (int attempt = 0; ; attempt++) {
+            T result;
+            try {
+                result = call.get();
+            } catch (Exception e) {
+                // RestAssured rethrows checked I/O exceptions without declaring them
+                if (!isRetryableError(e) || !shouldRetry(attempt, maxRetries)) {
+                    failures.increment();
+                    throw e;
+                }
+                sleep(backoff(attempt));
+                continue;
+            }
+
+            if (!retryableResult.test(result)) {
+                successes.increment();
+                return result;
+            }
+            if (!shouldRetry(attempt, maxRetries)) {
+                failures.increment();
+                return result;
+            }
+            sleep(backoff(attempt));
+        }
+    }
+
+    /**
+     * Run a non-blocking call with retries. Backoff delays are scheduled, no thread waits for them.
+     *
+     * @param call Starts one attempt
+     * @param retryableResult Tells whether a result should be retried, e.g. on a 503
+     * @param hedge Send a backup request if an attempt is slow; only for idempotent calls
+     * @return Future completed with the last result, or exceptionally with the last error
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call, Predicate<T> retryableResult,
+                                                 boolean hedge) {
+        onCall();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attemptAsync(call, retryableResult, hedge, 0, result);
+        return result;
+    }
+
+    /**
+     * Get a snapshot of the retry counters
+     */
+    public RetryStats getStats() {
+        return new RetryStats(calls.sum(), successes.sum(), failures.sum(), retries.sum(), retriesExhausted.sum(),
+                budgetExhausted.sum(), hedges.sum(), hedgeWins.sum());
+    }
+
+    @PreDestroy
+    public void logStats() {
+        if (calls.sum() > 0) {
+            logger.info("API retry stats: {}", getStats());
+        }
+    }
+
+    private <T> void attemptAsync(Supplier<CompletableFuture<T>> call, Predicate<T> retryableResult, boolean hedge,
+                                  int attempt, CompletableFuture<T> result) {
+        CompletableFuture<T> future = hedge && getApiConfig().getHedgeDelay() > 0 ? hedged(call) : start(call);
+
+        future.whenComplete((value, error) -> {
+            boolean retryable = error != null ? isRetryableError(error) : retryableResult.test(value);
+            if (retryable && shouldRetry(attempt, getApiConfig().getRetryCount())) {
+                CompletableFuture.delayedExecutor(backoff(attempt), TimeUnit.MILLISECONDS)
+                        .execute(() -> attemptAsync(call, retryableResult, hedge, attempt + 1, result));
+                return;
+            }
+
+            if (error != null) {
+                failures.increment();
+                result.completeExceptionally(unwrap(error));
+            } else {
+                (retryable ? failures : successes).increment();
+                result.complete(value);
+            }
+        });
+    }
+
+    /**
+     * Start the call and, if it has not answered within the hedge delay, start a backup.
+     * The first success wins; the slower response is discarded. Fails only when every attempt failed.
+     */
+    private <T> CompletableFuture<T> hedged(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+
+        start(call).whenComplete((value, error) -> completeHedged(result, outstanding, value, error, false));
+
+        CompletableFuture.delayedExecutor(getApiConfig().getHedgeDelay(), TimeUnit.MILLISECONDS).execute(() -> {
+            int current;
+            do {
+                current = outstanding.get();
+                if (current == 0 || result.isDone()) {
+                    return;
+                }
+            } while (!outstanding.compareAndSet(current, current + 1));
+
+            if (!tryAcquireBudget()) {
+                budgetExhausted.increment();
+                outstanding.decrementAndGet();
+                return;
+            }
+            hedges.increment();
+            start(call).whenComplete((value, error) -> completeHedged(result, outstanding, value, error, true));
+        });
+        return result;
+    }
+
+    private <T> void completeHedged(CompletableFuture<T> result, AtomicInteger outstanding, T value, Throwable error,
+                                    boolean backup) {
+        if (error == null) {
+            if (result.complete(value) && backup) {
+                hedgeWins.increment();
+            }
+        } else if (outstanding.decrementAndGet() == 0) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean shouldRetry(int attempt, int maxRetries) {
+        if (attempt >= maxRetries) {
+            retriesExhausted.increment();
+            return false;
+        }
+        if (!tryAcquireBudget()) {
+            budgetExhausted.increment();
+            return false;
+        }
+        retries.increment();
+        return true;
+    }
+
+    private void onCall() {
+        calls.increment();
+        long deposit = getApiConfig().getRetryBudgetPercent() * TOKEN / 100;
+        long capacity = getApiConfig().getRetryBudgetReserve() * TOKEN;
+        budget.updateAndGet(balance -> Math.min(capacity, (balance < 0 ? capacity : balance) + deposit));
+    }
+
+    private boolean tryAcquireBudget() {
+        long balance;
+        do {
+            balance = budget.get();
+            if (balance < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(balance, balance - TOKEN));
+        return true;
+    }
+
+    private long backoff(int attempt) {
+        FrameworkConfig.Api apiConfig = getApiConfig();
+        long ceiling = Math.min(apiConfig.getRetryMaxDelay(), apiConfig.getRetryBaseDelay() << Math.min(attempt, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry API call", e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private FrameworkConfig.Api getApiConfig() {
+        return frameworkConfig.getApi();
+    }
+}
@@ -0,0 +1,24 @@
+package com.enterprise.automation.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test class as safe to run its test methods on virtual threads
+ *
+ * Only honored when TestNG runs with {@link VirtualThreadExecutorFactory}.
+ * Intended for I/O-bound API suites; browser tests should stay on platform threads.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface VirtualThreadExecution {
+}
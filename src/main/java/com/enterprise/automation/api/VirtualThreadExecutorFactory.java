@@ -0,0 +1,175 @@
+package com.enterprise.automation.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.internal.thread.DefaultThreadPoolExecutorFactory;
+import org.testng.internal.thread.graph.GraphThreadPoolExecutor;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+import org.testng.thread.IWorker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs API test methods on Java 21 virtual threads
+ *
+ * Usage:
+ * - Annotate the test class (or a base class such as BaseApiTest) with {@link VirtualThreadExecution}
+ * - Run the suite with parallel="methods"; thread-count becomes the concurrency limit
+ * - Start TestNG with -threadpoolfactoryclass com.enterprise.automation.api.VirtualThreadExecutorFactory
+ *   (see the api-virtual-threads Maven profile)
+ *
+ * The limit can be overridden with -Dautomation.api.virtual-threads.max-concurrency=N.
+ * A &lt;test&gt; whose first runnable methods are all unannotated keeps TestNG's platform thread pool.
+ * Otherwise the annotation is checked for every method as it is submitted, including methods that only
+ * become runnable once their dependencies finish; unannotated ones run on a platform thread of their own.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadExecutorFactory.class);
+
+    public static final String MAX_CONCURRENCY_PROPERTY = "automation.api.virtual-threads.max-concurrency";
+
+    private final IExecutorFactory defaultFactory = new DefaultThreadPoolExecutorFactory();
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+                                                      IThreadWorkerFactory<ISuite> factory, int corePoolSize,
+                                                      int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                                      BlockingQueue<Runnable> workQueue,
+                                                      Comparator<ISuite> comparator) {
+        return defaultFactory.newSuiteExecutor(name, graph, factory, corePoolSize, maximumPoolSize,
+                keepAliveTime, unit, workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+                                                           IThreadWorkerFactory<ITestNGMethod> factory,
+                                                           int corePoolSize, int maximumPoolSize,
+                                                           long keepAliveTime, TimeUnit unit,
+                                                           BlockingQueue<Runnable> workQueue,
+                                                           Comparator<ITestNGMethod> comparator) {
+        if (graph.getNodesWithStatus(IDynamicGraph.Status.READY).stream()
+                .noneMatch(VirtualThreadExecutorFactory::allowsVirtualThreads)) {
+            return defaultFactory.newTestMethodExecutor(name, graph, factory, corePoolSize, maximumPoolSize,
+                    keepAliveTime, unit, workQueue, comparator);
+        }
+
+        int maxConcurrency = Integer.getInteger(MAX_CONCURRENCY_PROPERTY, maximumPoolSize);
+        logger.info("Running '{}' on virtual threads (max concurrency: {})", name, maxConcurrency);
+
+        // The pool size is the concurrency limiter; each worker is a cheap virtual thread
+        GraphThreadPoolExecutor<ITestNGMethod> executor = new GraphThreadPoolExecutor<>(name, graph,
+                new PlatformThreadFallback(factory), maxConcurrency, maxConcurrency, keepAliveTime, unit,
+                workQueue, comparator);
+        executor.setThreadFactory(Thread.ofVirtual().name("testng-vt-", 0).factory());
+        return executor;
+    }
+
+    private static boolean allowsVirtualThreads(ITestNGMethod method) {
+        Class<?> testClass = method.getRealClass();
+        return testClass.isAnnotationPresent(VirtualThreadExecution.class);
+    }
+
+    /**
+     * Hands workers with any unannotated method over to a platform thread
+     */
+    private static final class PlatformThreadFallback implements IThreadWorkerFactory<ITestNGMethod> {
+
+        private final IThreadWorkerFactory<ITestNGMethod> delegate;
+
+        private PlatformThreadFallback(IThreadWorkerFactory<ITestNGMethod> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<IWorker<ITestNGMethod>> createWorkers(List<ITestNGMethod> methods) {
+            List<IWorker<ITestNGMethod>> workers = delegate.createWorkers(methods);
+            List<IWorker<ITestNGMethod>> result = new ArrayList<>(workers.size());
+            for (IWorker<ITestNGMethod> worker : workers) {
+                boolean virtual = worker.getTasks().stream().allMatch(VirtualThreadExecutorFactory::allowsVirtualThreads);
+                result.add(virtual ? worker : new PlatformThreadWorker(worker));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Runs a worker on a new platform thread; the virtual pool thread only waits for it,
+     * so the concurrency limit still applies
+     */
+    private static final class PlatformThreadWorker implements IWorker<ITestNGMethod> {
+
+        private static final ThreadFactory PLATFORM_THREADS = Thread.ofPlatform().name("testng-pt-", 0).factory();
+
+        private final IWorker<ITestNGMethod> delegate;
+
+        private PlatformThreadWorker(IWorker<ITestNGMethod> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            Thread thread = PLATFORM_THREADS.newThread(delegate);
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                thread.interrupt();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public List<ITestNGMethod> getTasks() {
+            return delegate.getTasks();
+        }
+
+        @Override
+        public long getTimeOut() {
+            return delegate.getTimeOut();
+        }
+
+        @Override
+        public int getPriority() {
+            return delegate.getPriority();
+        }
+
+        @Override
+        public long getCurrentThreadId() {
+            return delegate.getCurrentThreadId();
+        }
+
+        @Override
+        public void setThreadIdToRunOn(long threadIdToRunOn) {
+            delegate.setThreadIdToRunOn(threadIdToRunOn);
+        }
+
+        @Override
+        public long getThreadIdToRunOn() {
+            return delegate.getThreadIdToRunOn();
+        }
+
+        @Override
+        public boolean completed() {
+            return delegate.completed();
+        }
+
+        @Override
+        public int compareTo(IWorker<ITestNGMethod> other) {
+            return delegate.compareTo(other);
+        }
+    }
+}
@@ -8,8 +8,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.Valid;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -58,8 +62,36 @@ public class FrameworkConfig {
         
         private String windowSize = "1920,1080";
         
+        // Explicit waits (SmartWait) replace implicit ones; > 0 makes every negative lookup block
+        @Min(value = 0, message = "Implicit wait cannot be negative")
+        private int implicitWait = 0;
+        
         private Map<String, Object> capabilities;
         
+        @Valid
+        private Pool pool = new Pool();
+        
+        @Valid
+        private SessionReset sessionReset = new SessionReset();
+        
+        @Valid
+        private Drivers drivers = new Drivers();
+        
+        @Valid
+        private Launcher launcher = new Launcher();
+        
+        @Valid
+        private Monitoring monitoring = new Monitoring();
+        
+        @Valid
+        private Reaper reaper = new Reaper();
+        
+        @Valid
+        private Shutdown shutdown = new Shutdown();
+        
+        @Valid
+        private Wait wait = new Wait();
+        
         /**
          * Get browser capabilities for the specified browser
          * @param browserName Browser name (chrome, firefox, edge)
@@ -82,6 +114,90 @@ public class FrameworkConfig {
             return capabilities != null && 
                    Boolean.TRUE.equals(capabilities.get(capabilityName));
         }
+        
+        @Data
+        public static class Pool {
+            private boolean enabled = false;
+            
+            @Min(value = 1, message = "Pool must allow at least 1 session per browser")
+            private int maxSessionsPerBrowser = 5;
+            
+            @Min(value = 0, message = "Warm-up size cannot be negative")
+            private int warmUpSize = 0;
+            
+            @Min(value = 1, message = "Borrow timeout must be at least 1 second")
+            private int borrowTimeout = 120;
+        }
+        
+        @Data
+        public static class SessionReset {
+            private boolean clearHttpCache = true;
+            
+            // Origins wiped on every reset in addition to the ones open in the browser
+            private List<String> origins = new ArrayList<>();
+        }
+        
+        @Data
+        public static class Drivers {
+            private String indexFile = System.getProperty("user.home") + "/.cache/enterprise-automation/driver-index.properties";
+            
+            @Min(value = 0, message = "Driver index TTL cannot be negative")
+            private int indexTtlHours = 24;
+        }
+        
+        @Data
+        public static class Launcher {
+            // 0 derives the limit from available cores and free memory
+            @Min(value = 0, message = "Max concurrent launches cannot be negative")
+            private int maxConcurrentLaunches = 0;
+            
+            @Min(value = 64, message = "Memory per session must be at least 64 MB")
+            private int memoryPerSessionMb = 512;
+        }
+        
+        @Data
+        public static class Monitoring {
+            // false returns drivers undecorated, with no listener overhead per command
+            private boolean enabled = true;
+            private boolean logNavigation = true;
+            private boolean commandMetrics = true;
+        }
+        
+        @Data
+        public static class Reaper {
+            private boolean enabled = true;
+            
+            @Min(value = 5, message = "Reaper interval must be at least 5 seconds")
+            private int interval = 60;
+            
+            @Min(value = 60, message = "Idle timeout must be at least 60 seconds")
+            private int idleTimeout = 1800;
+        }
+        
+        @Data
+        public static class Shutdown {
+            @Min(value = 1, message = "Quit timeout must be at least 1 second")
+            private int quitTimeout = 10;
+            
+            @Min(value = 1, message = "At least 1 parallel quit must be allowed")
+            private int maxParallelQuits = 8;
+        }
+        
+        @Data
+        public static class Wait {
+            // Polls start at the initial interval and double up to the max
+            @Min(value = 1, message = "Initial poll interval must be at least 1ms")
+            private int initialPollMillis = 25;
+            
+            @Min(value = 1, message = "Max poll interval must be at least 1ms")
+            private int maxPollMillis = 500;
+            
+            // Wake up on DOM changes instead of sleeping between polls
+            private boolean mutationObserver = true;
+            
+            // Timeouts in seconds by profile name; the default profile is web.timeout
+            private Map<String, Integer> profiles = new LinkedHashMap<>();
+        }
     }
 
     @Data
@@ -95,8 +211,33 @@ public class FrameworkConfig {
         @Min(value = 0, message = "Retry count cannot be negative")
         @Max(value = 10, message = "Retry count cannot exceed 10")
         private int retryCount = 3;
+
+        @Min(value = 1, message = "Retry base delay must be at least 1ms")
+        private long retryBaseDelay = 200;
+
+        @Min(value = 1, message = "Retry max delay must be at least 1ms")
+        private long retryMaxDelay = 5000;
+
+        @Min(value = 0, message = "Retry budget percent cannot be negative")
+        @Max(value = 100, message = "Retry budget percent cannot exceed 100")
+        private int retryBudgetPercent = 20;
+
+        @Min(value = 1, message = "Retry budget reserve must be at least 1")
+        private int retryBudgetReserve = 10;
+
+        @Min(value = 0, message = "Hedge delay cannot be negative")
+        private long hedgeDelay = 0;
         
         private Map<String, String> headers;
+
+        @Min(value = 1, message = "Max connections must be at least 1")
+        private int maxConnections = 200;
+
+        @Min(value = 1, message = "Max connections per route must be at least 1")
+        private int maxConnectionsPerRoute = 50;
+
+        @Min(value = 0, message = "Idle connection timeout cannot be negative")
+        private int idleConnectionTimeout = 30;
     }
 
     @Data
@@ -114,6 +255,9 @@ public class FrameworkConfig {
         @Min(value = 1, message = "Max pool size must be at least 1")
         @Max(value = 50, message = "Max pool size cannot exceed 50")
         private int maxPoolSize = 10;
+
+        @Min(value = 1, message = "Fixture batch size must be at least 1")
+        private int batchSize = 1000;
     }
 
     @Data
@@ -135,6 +279,20 @@ public class FrameworkConfig {
         private boolean screenshots = true;
         private boolean videoRecording = false;
         private boolean screenshotOnFailure = true;
+
+        @Pattern(regexp = "png|jpg", message = "Screenshot format must be png or jpg")
+        private String screenshotFormat = "png";
+
+        @Min(value = 1, message = "Screenshot queue capacity must be at least 1")
+        private int screenshotQueueCapacity = 32;
+
+        @Min(value = 1, message = "Video max frames must be at least 1")
+        private int videoMaxFrames = 120;
+
+        @Min(value = 50, message = "Video frame interval must be at least 50ms")
+        private long videoFrameInterval = 500;
+
+        private String commandMetricsReport = "target/webdriver-command-metrics.json";
         
         private ReportPortal reportPortal;
         
@@ -206,7 +364,7 @@ public class FrameworkConfig {
         String baseUrl = database.getUrl();
         if (environment != null && !environment.equals("prod")) {
             // Replace database name with environment-specific name
-            return baseUrl.replaceAll("/testdb", "/testdb_" + environment);
+            return baseUrl.replaceAll("/testdb(?=$|\\?)", "/testdb_" + environment);
         }
         return baseUrl;
     }
@@ -0,0 +1,73 @@
+package com.enterprise.automation.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders a run's test methods so tests needing the same browser run back to back
+ *
+ * Features:
+ * - Groups by {@link RequiresBrowser}; unannotated tests form the group of the configured browser
+ * - Groups keep the order of their first test, and tests keep their order within a group
+ * - With the session pool enabled, a worker finishing one test usually picks up another for the
+ *   same browser and gets the session it just released back (see DriverSessionPool.borrow)
+ *
+ * TestNG has no way to hand a method to a particular worker thread, so affinity comes from
+ * ordering plus the pool preferring each thread's last session, rather than from routing.
+ * Register with @Listeners(BrowserAffinityInterceptor.class), as BaseTest does.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public class BrowserAffinityInterceptor implements IMethodInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserAffinityInterceptor.class);
+
+    // Group of tests without @RequiresBrowser
+    private static final String CONFIGURED_BROWSER = "";
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Map<String, List<IMethodInstance>> groups = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            String browser = requiredBrowser(method.getMethod().getRealClass(),
+                    method.getMethod().getConstructorOrMethod().getMethod());
+            groups.computeIfAbsent(browser == null ? CONFIGURED_BROWSER : browser, key -> new ArrayList<>())
+                    .add(method);
+        }
+
+        if (groups.size() > 1) {
+            Map<String, Integer> sizes = new LinkedHashMap<>();
+            groups.forEach((browser, group) -> sizes.put(browser.isEmpty() ? "configured" : browser, group.size()));
+            logger.info("Running tests of '{}' grouped by browser: {}", context.getName(), sizes);
+        }
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        groups.values().forEach(ordered::addAll);
+        return ordered;
+    }
+
+    /**
+     * Get the browser a test method requires
+     *
+     * @param testClass Class the test runs in, which may inherit the method
+     * @param method Test method
+     * @return Lower-case browser name, or null to use the configured browser
+     */
+    public static String requiredBrowser(Class<?> testClass, Method method) {
+        RequiresBrowser requirement = method == null ? null : method.getAnnotation(RequiresBrowser.class);
+        if (requirement == null && testClass != null) {
+            requirement = testClass.getAnnotation(RequiresBrowser.class);
+        }
+        return requirement == null ? null : requirement.value().toLowerCase();
+    }
+}
@@ -0,0 +1,296 @@
+package com.enterprise.automation.core;
+
+import com.enterprise.automation.config.ChromeConfig;
+import com.enterprise.automation.config.FrameworkConfig;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.safari.SafariOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Precompiled browser options for Enterprise Automation Framework
+ *
+ * Features:
+ * - Compiles each browser's application.yml configuration once at startup
+ * - Validates capability types up front, so bad config fails the boot instead of a test
+ * - Hands out cheap per-session copies; templates themselves are never exposed
+ * - Stable per-template fingerprint for session pool keys
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class BrowserOptionsTemplates {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserOptionsTemplates.class);
+
+    private static final Capabilities NO_EXTRA_CAPABILITIES = new ImmutableCapabilities();
+    private static final String CAPABILITIES_PATH = "automation.web.capabilities";
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    @Autowired
+    private ChromeConfig chromeConfig;
+
+    @Autowired
+    private NetworkResourceBlocker networkBlocker;
+
+    // Written once in compile(), read-only afterwards
+    private Map<String, Template> templates = Collections.emptyMap();
+
+    private record Template(AbstractDriverOptions<?> options, int fingerprint) {
+    }
+
+    /**
+     * Compile headed and headless templates for every supported browser
+     *
+     * @throws IllegalStateException if a capability in application.yml has the wrong type
+     */
+    @PostConstruct
+    public void compile() {
+        Map<String, Template> compiled = new HashMap<>();
+
+        for (boolean headless : new boolean[] {false, true}) {
+            register(compiled, "chrome", headless, enableBiDiIfNeeded("chrome", compileChrome(headless)));
+            register(compiled, "firefox", headless, enableBiDiIfNeeded("firefox", compileFirefox(headless)));
+            register(compiled, "edge", headless, enableBiDiIfNeeded("edge", compileEdge()));
+            register(compiled, "safari", headless, new SafariOptions());
+        }
+
+        templates = Collections.unmodifiableMap(compiled);
+        logger.info("Compiled {} browser options templates", templates.size());
+    }
+
+    /**
+     * Create a fresh copy of the compiled options for a browser
+     *
+     * @param browserType Browser name (chrome, firefox, edge, safari)
+     * @param headless Headless mode
+     * @return Mutable options owned by the caller
+     */
+    public AbstractDriverOptions<?> newOptions(String browserType, boolean headless) {
+        // merge() always builds a new instance of the concrete options class
+        return (AbstractDriverOptions<?>) getTemplate(browserType, headless).options().merge(NO_EXTRA_CAPABILITIES);
+    }
+
+    /**
+     * Get a stable fingerprint of the compiled options, for use in session pool keys
+     *
+     * @param browserType Browser name
+     * @param headless Headless mode
+     * @return Hash of the compiled capabilities
+     */
+    public int getFingerprint(String browserType, boolean headless) {
+        return getTemplate(browserType, headless).fingerprint();
+    }
+
+    private Template getTemplate(String browserType, boolean headless) {
+        Template template = templates.get(templateKey(browserType, headless));
+        if (template == null) {
+            throw new IllegalArgumentException("Unsupported browser: " + browserType);
+        }
+        return template;
+    }
+
+    private ChromeOptions compileChrome(boolean headless) {
+        ChromeOptions options = new ChromeOptions();
+        List<String> args = chromeConfig.getArgs() != null ? new ArrayList<>(chromeConfig.getArgs()) : new ArrayList<>();
+
+        // Inject headless flag from override if it's not already in YAML
+        if (headless && args.stream().noneMatch(arg -> arg.contains("headless"))) {
+            args.add("--headless=new");
+        }
+
+        options.addArguments(args);
+        if (chromeConfig.getPrefs() != null) {
+            options.setExperimentalOption("prefs", Collections.unmodifiableMap(new LinkedHashMap<>(chromeConfig.getPrefs())));
+        }
+        return options;
+    }
+
+    private FirefoxOptions compileFirefox(boolean headless) {
+        FirefoxOptions options = new FirefoxOptions();
+        Map<String, Object> firefoxConfig = getBrowserConfig("firefox");
+
+        List<String> args = toStringList(firefoxConfig.get("args"), "firefox.args");
+        if (headless && !args.contains("--headless")) {
+            options.addArguments("--headless");
+        }
+        options.addArguments(args);
+
+        if (firefoxConfig.containsKey("prefs")) {
+            // Dotted preference names are bound as nested maps, so flatten them back
+            Map<String, Object> prefs = new TreeMap<>();
+            flattenPrefs("", toMap(firefoxConfig.get("prefs"), "firefox.prefs"), prefs);
+            prefs.forEach((key, value) -> {
+                if (value instanceof Boolean) {
+                    options.addPreference(key, (Boolean) value);
+                } else if (value instanceof Integer) {
+                    options.addPreference(key, (Integer) value);
+                } else if (value instanceof String || value instanceof Number) {
+                    options.addPreference(key, value.toString());
+                } else {
+                    throw invalid("firefox.prefs." + key, "a boolean, number or string", value);
+                }
+            });
+        } else {
+            // Default preferences if not specified in config
+            options.addPreference("dom.webnotifications.enabled", false);
+            options.addPreference("media.volume_scale", "0.0");
+            options.addPreference("browser.download.folderList", 2);
+            options.addPreference("browser.download.dir", System.getProperty("user.dir") + "/downloads");
+        }
+
+        applyGlobalCapabilities(options);
+        return options;
+    }
+
+    private EdgeOptions compileEdge() {
+        EdgeOptions options = new EdgeOptions();
+        Map<String, Object> edgeConfig = getBrowserConfig("edge");
+
+        if (edgeConfig.containsKey("args")) {
+            options.addArguments(toStringList(edgeConfig.get("args"), "edge.args"));
+        } else {
+            // Default arguments if not specified in config
+            options.addArguments("--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu");
+        }
+
+        if (edgeConfig.containsKey("experimentalOptions")) {
+            toMap(edgeConfig.get("experimentalOptions"), "edge.experimentalOptions")
+                    .forEach(options::setExperimentalOption);
+        }
+
+        applyGlobalCapabilities(options);
+        return options;
+    }
+
+    private void applyGlobalCapabilities(AbstractDriverOptions<?> options) {
+        Map<String, Object> capabilities = frameworkConfig.getWeb().getCapabilities();
+        if (capabilities == null) {
+            return;
+        }
+
+        if (capabilities.containsKey("acceptInsecureCerts")) {
+            Object value = capabilities.get("acceptInsecureCerts");
+            if (!(value instanceof Boolean)) {
+                throw invalid("acceptInsecureCerts", "a boolean", value);
+            }
+            options.setAcceptInsecureCerts((Boolean) value);
+        }
+
+        if (capabilities.containsKey("pageLoadStrategy")) {
+            Object value = capabilities.get("pageLoadStrategy");
+            PageLoadStrategy strategy = value instanceof String ? PageLoadStrategy.fromString((String) value) : null;
+            if (strategy == null) {
+                throw invalid("pageLoadStrategy", "one of normal, eager, none", value);
+            }
+            options.setPageLoadStrategy(strategy);
+        }
+    }
+
+    /**
+     * Ask for a BiDi connection where NetworkResourceBlocker intercepts requests through it,
+     * and for pooled Firefox sessions, whose cookies BrowserSessionResetter can only clear through it
+     */
+    private AbstractDriverOptions<?> enableBiDiIfNeeded(String browserType, AbstractDriverOptions<?> options) {
+        boolean pooledFirefox = "firefox".equals(browserType) && frameworkConfig.getWeb().getPool().isEnabled();
+        if (pooledFirefox || networkBlocker.requiresBiDi(browserType)) {
+            options.setCapability("webSocketUrl", true);
+        }
+        return options;
+    }
+
+    private Map<String, Object> getBrowserConfig(String browserType) {
+        Map<String, Object> capabilities = frameworkConfig.getWeb().getCapabilities();
+        if (capabilities == null || !capabilities.containsKey(browserType)) {
+            return Collections.emptyMap();
+        }
+        return toMap(capabilities.get(browserType), browserType);
+    }
+
+    private static void register(Map<String, Template> compiled, String browserType, boolean headless,
+                                 AbstractDriverOptions<?> options) {
+        compiled.put(templateKey(browserType, headless), new Template(options, options.asMap().hashCode()));
+    }
+
+    private static String templateKey(String browserType, boolean headless) {
+        return headless ? browserType + ":headless" : browserType;
+    }
+
+    /**
+     * Spring binds YAML lists inside a Map&lt;String, Object&gt; as {"0": .., "1": ..},
+     * so accept both shapes and return the items in index order.
+     */
+    static List<String> toStringList(Object value, String path) {
+        if (value == null) {
+            return new ArrayList<>();
+        }
+
+        Collection<?> items;
+        if (value instanceof List<?> list) {
+            items = list;
+        } else if (value instanceof Map<?, ?> map && map.keySet().stream().allMatch(key -> String.valueOf(key).matches("\\d+"))) {
+            Map<Integer, Object> ordered = new TreeMap<>();
+            map.forEach((key, item) -> ordered.put(Integer.valueOf(String.valueOf(key)), item));
+            items = ordered.values();
+        } else {
+            throw invalid(path, "a list of strings", value);
+        }
+
+        List<String> result = new ArrayList<>(items.size());
+        for (Object item : items) {
+            if (!(item instanceof String)) {
+                throw invalid(path, "a list of strings", value);
+            }
+            result.add((String) item);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toMap(Object value, String path) {
+        if (!(value instanceof Map)) {
+            throw invalid(path, "a map", value);
+        }
+        return (Map<String, Object>) value;
+    }
+
+    private static void flattenPrefs(String prefix, Map<String, Object> source, Map<String, Object> target) {
+        source.forEach((key, value) -> {
+            String name = prefix.isEmpty() ? key : prefix + "." + key;
+            if (value instanceof Map) {
+                flattenPrefs(name, toMap(value, "firefox.prefs." + name), target);
+            } else {
+                target.put(name, value);
+            }
+        });
+    }
+
+    private static IllegalStateException invalid(String path, String expected, Object actual) {
+        return new IllegalStateException(String.format("Invalid %s.%s: expected %s but got %s (%s)",
+                CAPABILITIES_PATH, path, expected, actual,
+                actual == null ? "null" : actual.getClass().getSimpleName()));
+    }
+}
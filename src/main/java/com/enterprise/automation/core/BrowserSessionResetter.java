@@ -0,0 +1,214 @@
+package com.enterprise.automation.core;
+
+import com.enterprise.automation.config.FrameworkConfig;
+import com.enterprise.automation.reporting.PhaseTimings;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Storage;
+import org.openqa.selenium.bidi.storage.CookieFilter;
+import org.openqa.selenium.bidi.storage.DeleteCookiesParameters;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Soft reset of a browser session between tests
+ *
+ * Features:
+ * - Dismisses alerts left open by the test and closes every window but one
+ * - Chromium: cookies, HTTP cache and all per-origin storage (local storage, IndexedDB, Cache Storage,
+ *   service workers, ...) wiped through CDP, without reloading anything
+ * - Other browsers: the same storage cleared from inside each open page and each configured origin,
+ *   and the cookies of every domain deleted through WebDriver BiDi
+ * - Sessions whose cookies can't all be deleted (no CDP or BiDi) fail the reset, so the pool discards them
+ * - Session storage cleared in every window, since it is tied to the tab rather than the origin
+ * - Ends on about:blank, so the next test starts from an empty page
+ *
+ * Only origins open in the browser at reset time, plus automation.web.session-reset.origins,
+ * are wiped; list the application's origins there if tests navigate between several.
+ * Without CDP each configured origin costs a page load, since its storage can only be cleared from inside.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class BrowserSessionResetter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserSessionResetter.class);
+
+    // Returns the origins of the page and its frames; clears session storage on the way
+    private static final String COLLECT_ORIGINS_SCRIPT =
+            "try { window.sessionStorage.clear(); } catch (e) {}"
+            + "var origins = [location.origin];"
+            + "document.querySelectorAll('iframe[src]').forEach(function (frame) {"
+            + "  try { origins.push(new URL(frame.src, location.href).origin); } catch (e) {}"
+            + "});"
+            + "return origins;";
+
+    // Async script: clears the current origin's storage from inside the page, for browsers without CDP
+    private static final String CLEAR_ORIGIN_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+            + "var tasks = [];"
+            + "try { window.localStorage.clear(); } catch (e) {}"
+            + "try { window.sessionStorage.clear(); } catch (e) {}"
+            + "if (window.indexedDB && indexedDB.databases) {"
+            + "  tasks.push(indexedDB.databases().then(function (dbs) {"
+            + "    return Promise.all(dbs.map(function (db) {"
+            + "      return new Promise(function (resolve) {"
+            + "        var request = indexedDB.deleteDatabase(db.name);"
+            + "        request.onsuccess = request.onerror = request.onblocked = resolve;"
+            + "      });"
+            + "    }));"
+            + "  }));"
+            + "}"
+            + "if (window.caches) {"
+            + "  tasks.push(caches.keys().then(function (keys) {"
+            + "    return Promise.all(keys.map(function (key) { return caches.delete(key); }));"
+            + "  }));"
+            + "}"
+            + "if (navigator.serviceWorker) {"
+            + "  tasks.push(navigator.serviceWorker.getRegistrations().then(function (registrations) {"
+            + "    return Promise.all(registrations.map(function (registration) { return registration.unregister(); }));"
+            + "  }));"
+            + "}"
+            + "Promise.all(tasks.map(function (task) { return task.catch(function () {}); }))"
+            + "  .then(function () { done(location.origin); });";
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    /**
+     * Bring a session back to a neutral state for the next test
+     *
+     * @param driver Session to reset
+     * @throws org.openqa.selenium.WebDriverException if the browser no longer responds; discard the session then
+     */
+    public void reset(WebDriver driver) {
+        PhaseTimings.time("driver.reset", () -> resetSession(driver));
+    }
+
+    private void resetSession(WebDriver driver) {
+        boolean cdp = driver instanceof HasCdp;
+        if (!cdp && !hasBiDi(driver)) {
+            throw new IllegalStateException("Cannot delete the cookies of every domain without CDP or BiDi");
+        }
+        Set<String> origins = new LinkedHashSet<>();
+
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        String keptHandle = handles.get(0);
+        for (String handle : handles) {
+            driver.switchTo().window(handle);
+            if (cdp) {
+                origins.addAll(collectOrigins(driver));
+            } else {
+                Optional.ofNullable(clearFromPage(driver)).ifPresent(origins::add);
+            }
+            if (!handle.equals(keptHandle)) {
+                driver.close();
+            }
+        }
+        driver.switchTo().window(keptHandle);
+
+        if (!cdp) {
+            // Storage of configured origins not open right now can only be reached from a page there
+            for (String origin : getResetConfig().getOrigins()) {
+                if (origins.add(origin)) {
+                    driver.get(origin);
+                    clearFromPage(driver);
+                }
+            }
+        }
+
+        // Leave the application first, so it can't write anything back while being wiped
+        driver.get("about:blank");
+
+        if (cdp) {
+            origins.addAll(getResetConfig().getOrigins());
+            clearWithCdp((HasCdp) driver, origins);
+        } else {
+            // Unlike deleteAllCookies(), which only reaches the current page's domain
+            new Storage(driver).deleteCookies(new DeleteCookiesParameters(new CookieFilter()));
+            logger.debug("Cleared storage for {} and all cookies through BiDi", origins);
+        }
+    }
+
+    private void clearWithCdp(HasCdp cdp, Set<String> origins) {
+        cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        if (getResetConfig().isClearHttpCache()) {
+            cdp.executeCdpCommand("Network.clearBrowserCache", Map.of());
+        }
+        for (String origin : origins) {
+            if (origin == null || !origin.startsWith("http")) {
+                // about:blank, data: and file: pages have an opaque "null" origin
+                continue;
+            }
+            cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+        }
+        logger.debug("Cleared cookies, cache and storage for {} through CDP", origins);
+    }
+
+    /**
+     * Clear the current page's origin from inside the page
+     *
+     * @return The origin cleared, or null if the script failed
+     */
+    private String clearFromPage(WebDriver driver) {
+        try {
+            Object origin = runScript(driver, () -> ((JavascriptExecutor) driver).executeAsyncScript(CLEAR_ORIGIN_SCRIPT));
+            return origin instanceof String ? (String) origin : null;
+        } catch (RuntimeException e) {
+            logger.debug("Could not clear browser storage: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean hasBiDi(WebDriver driver) {
+        return driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> collectOrigins(WebDriver driver) {
+        try {
+            Object origins = runScript(driver, () -> ((JavascriptExecutor) driver).executeScript(COLLECT_ORIGINS_SCRIPT));
+            return origins instanceof List ? (List<String>) origins : List.of();
+        } catch (RuntimeException e) {
+            logger.debug("Could not read page origins: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Run a script, dismissing an alert the test left open and retrying once.
+     * Probing for alerts up front would cost a round trip per window on every reset.
+     */
+    private Object runScript(WebDriver driver, Supplier<Object> script) {
+        try {
+            return script.get();
+        } catch (UnhandledAlertException e) {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException alreadyDismissed) {
+                // unhandledPromptBehavior dismissed it already
+            }
+            return script.get();
+        }
+    }
+
+    private FrameworkConfig.Web.SessionReset getResetConfig() {
+        return frameworkConfig.getWeb().getSessionReset();
+    }
+}
@@ -0,0 +1,295 @@
+package com.enterprise.automation.core;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.bonigarcia.wdm.WebDriverManager.chromedriver;
+import static io.github.bonigarcia.wdm.WebDriverManager.edgedriver;
+import static io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver;
+
+/**
+ * Resolves local driver binaries once per browser per JVM
+ *
+ * Features:
+ * - Single in-flight resolution per browser; concurrent callers wait on it
+ * - Persisted index of resolved driver path, driver version and browser version
+ * - Index entries reused across JVMs until they expire, the binary disappears
+ *   or the installed browser no longer matches the recorded major version
+ * - Invalidation hook for driver/browser version mismatches
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class DriverBinaryResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    private final Map<String, CompletableFuture<ResolvedDriver>> resolutions = new ConcurrentHashMap<>();
+
+    private final Properties index = new Properties();
+    private volatile boolean indexLoaded;
+
+    /**
+     * Resolved driver binary for a browser
+     *
+     * @param browserType Browser name
+     * @param driverPath Absolute path to the driver binary
+     * @param driverVersion Driver version
+     * @param fromIndex true if the binary was taken from the persisted index
+     */
+    public record ResolvedDriver(String browserType, String driverPath, String driverVersion, boolean fromIndex) {
+    }
+
+    /**
+     * Resolve the driver binary for a browser and export its system property.
+     * Only the first caller per browser does the work; everyone else waits for its result.
+     *
+     * @param browserType Browser name (chrome, firefox, edge)
+     * @return Resolved driver
+     */
+    public ResolvedDriver resolve(String browserType) {
+        CompletableFuture<ResolvedDriver> resolution = new CompletableFuture<>();
+        CompletableFuture<ResolvedDriver> inFlight = resolutions.putIfAbsent(browserType, resolution);
+
+        if (inFlight == null) {
+            try {
+                resolution.complete(doResolve(browserType));
+            } catch (RuntimeException e) {
+                // Let the next caller retry instead of caching the failure
+                resolutions.remove(browserType, resolution);
+                resolution.completeExceptionally(e);
+            }
+            inFlight = resolution;
+        }
+
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Forget the resolved driver for a browser, both in memory and in the persisted index
+     *
+     * @param browserType Browser name
+     */
+    public void invalidate(String browserType) {
+        resolutions.remove(browserType);
+        synchronized (index) {
+            loadIndex();
+            index.stringPropertyNames().stream()
+                    .filter(key -> key.startsWith(browserType + "."))
+                    .forEach(index::remove);
+            if (isIndexEnabled()) {
+                storeIndex();
+            }
+        }
+        logger.info("Invalidated resolved {} driver", browserType);
+    }
+
+    /**
+     * Record the browser version reported by a live session
+     *
+     * @param browserType Browser name
+     * @param browserVersion Browser version from the session capabilities
+     */
+    public void recordBrowserVersion(String browserType, String browserVersion) {
+        if (browserVersion == null || browserVersion.isEmpty() || !isIndexEnabled()) {
+            return;
+        }
+
+        synchronized (index) {
+            loadIndex();
+            if (!browserVersion.equals(index.getProperty(browserType + ".browserVersion"))) {
+                index.setProperty(browserType + ".browserVersion", browserVersion);
+                storeIndex();
+            }
+        }
+    }
+
+    private ResolvedDriver doResolve(String browserType) {
+        String exportKey = getExportKey(browserType);
+        ResolvedDriver cached = lookupIndex(browserType);
+
+        if (cached != null) {
+            System.setProperty(exportKey, cached.driverPath());
+            logger.info("Using indexed {} driver {} at {}", browserType, cached.driverVersion(), cached.driverPath());
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        io.github.bonigarcia.wdm.WebDriverManager wdm = getManager(browserType);
+        wdm.setup();
+
+        ResolvedDriver resolved = new ResolvedDriver(browserType, wdm.getDownloadedDriverPath(),
+                wdm.getDownloadedDriverVersion(), false);
+        System.setProperty(exportKey, resolved.driverPath());
+        logger.info("Resolved {} driver {} in {} ms", browserType, resolved.driverVersion(),
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+
+        if (isIndexEnabled()) {
+            synchronized (index) {
+                loadIndex();
+                index.setProperty(browserType + ".driverPath", resolved.driverPath());
+                index.setProperty(browserType + ".driverVersion", String.valueOf(resolved.driverVersion()));
+                index.setProperty(browserType + ".resolvedAt", Instant.now().toString());
+                storeIndex();
+            }
+        }
+        return resolved;
+    }
+
+    private ResolvedDriver lookupIndex(String browserType) {
+        if (!isIndexEnabled()) {
+            return null;
+        }
+
+        synchronized (index) {
+            loadIndex();
+            String driverPath = index.getProperty(browserType + ".driverPath");
+            String resolvedAt = index.getProperty(browserType + ".resolvedAt");
+            if (driverPath == null || resolvedAt == null || !Files.isExecutable(Paths.get(driverPath))) {
+                return null;
+            }
+
+            Duration ttl = Duration.ofHours(getDriversConfig().getIndexTtlHours());
+            try {
+                if (Instant.parse(resolvedAt).plus(ttl).isBefore(Instant.now())) {
+                    logger.debug("Indexed {} driver expired, resolving again", browserType);
+                    return null;
+                }
+            } catch (DateTimeParseException e) {
+                logger.warn("Ignoring corrupt driver index entry for {}: {}", browserType, resolvedAt);
+                return null;
+            }
+
+            String recordedVersion = index.getProperty(browserType + ".browserVersion");
+            if (recordedVersion != null && isBrowserUpgraded(browserType, recordedVersion)) {
+                return null;
+            }
+            return new ResolvedDriver(browserType, driverPath, index.getProperty(browserType + ".driverVersion"), true);
+        }
+    }
+
+    /**
+     * Compare the recorded browser version with the one installed now. Only the major
+     * version matters, since that is what the driver binary is tied to.
+     */
+    private boolean isBrowserUpgraded(String browserType, String recordedVersion) {
+        Optional<String> installedVersion;
+        try {
+            installedVersion = new VersionDetector(new Config().setCommandsPropertiesOnlineFirst(false), null)
+                    .getBrowserVersionFromTheShell(browserType);
+        } catch (RuntimeException e) {
+            logger.debug("Could not detect installed {} version: {}", browserType, e.getMessage());
+            return false;
+        }
+
+        // Without a detected version, fall back to the session start retry in WebDriverManager
+        if (installedVersion.isEmpty() || VersionDetector.getMajorVersion(installedVersion.get())
+                .equals(VersionDetector.getMajorVersion(recordedVersion))) {
+            return false;
+        }
+        logger.info("Installed {} {} differs from indexed {}, resolving driver again",
+                browserType, installedVersion.get(), recordedVersion);
+        return true;
+    }
+
+    private void loadIndex() {
+        if (indexLoaded) {
+            return;
+        }
+
+        Path indexFile = getIndexFile();
+        if (Files.exists(indexFile)) {
+            try (InputStream in = Files.newInputStream(indexFile)) {
+                index.load(in);
+            } catch (IOException | IllegalArgumentException e) {
+                logger.warn("Could not read driver index {}: {}", indexFile, e.getMessage());
+                index.clear();
+            }
+        }
+        indexLoaded = true;
+    }
+
+    private void storeIndex() {
+        Path indexFile = getIndexFile();
+        try {
+            Files.createDirectories(indexFile.toAbsolutePath().getParent());
+            // Write to a temp file and move it over, so other JVMs never read a half-written index
+            Path tmp = Files.createTempFile(indexFile.toAbsolutePath().getParent(), "driver-index", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                index.store(out, "Enterprise Automation Framework - resolved driver binaries");
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write driver index {}: {}", indexFile, e.getMessage());
+        }
+    }
+
+    private io.github.bonigarcia.wdm.WebDriverManager getManager(String browserType) {
+        switch (browserType) {
+            case "chrome":
+                return chromedriver();
+            case "firefox":
+                return firefoxdriver();
+            case "edge":
+                return edgedriver();
+            default:
+                throw new IllegalArgumentException("No driver binary to resolve for browser: " + browserType);
+        }
+    }
+
+    private String getExportKey(String browserType) {
+        switch (browserType) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                throw new IllegalArgumentException("No driver binary to resolve for browser: " + browserType);
+        }
+    }
+
+    private boolean isIndexEnabled() {
+        return getDriversConfig().getIndexTtlHours() > 0;
+    }
+
+    private Path getIndexFile() {
+        return Paths.get(getDriversConfig().getIndexFile());
+    }
+
+    private FrameworkConfig.Web.Drivers getDriversConfig() {
+        return frameworkConfig.getWeb().getDrivers();
+    }
+}
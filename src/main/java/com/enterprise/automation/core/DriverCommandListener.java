@@ -0,0 +1,39 @@
+package com.enterprise.automation.core;
+
+import java.lang.reflect.Method;
+
+/**
+ * Callback for every command sent through a {@link MonitoringDriverDecorator}
+ *
+ * A leaner alternative to Selenium's WebDriverListener: one generic callback per phase,
+ * with no lookup of per-command listener methods on each call.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public interface DriverCommandListener {
+
+    /**
+     * Called before the command reaches the driver
+     *
+     * @param target Undecorated driver, element, navigation, etc. the command is called on
+     * @param method Interface method being called
+     * @param args Call arguments, may be null
+     */
+    default void beforeCommand(Object target, Method method, Object[] args) {
+    }
+
+    /**
+     * Called after the command returned normally
+     *
+     * @param result Decorated return value, null for void methods
+     */
+    default void afterCommand(Object target, Method method, Object[] args, Object result) {
+    }
+
+    /**
+     * Called when the command threw; the error is rethrown to the caller afterwards
+     */
+    default void onCommandError(Object target, Method method, Object[] args, Throwable error) {
+    }
+}
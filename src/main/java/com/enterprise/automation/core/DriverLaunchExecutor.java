@@ -0,0 +1,103 @@
+package com.enterprise.automation.core;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated executor for browser session startup
+ *
+ * Features:
+ * - Bounded number of concurrent browser launches
+ * - Limit derived from CPU cores and free physical memory unless configured explicitly
+ * - Launches queue up instead of failing when the limit is reached
+ * - Daemon threads, so a stuck launch never blocks JVM exit
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class DriverLaunchExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverLaunchExecutor.class);
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        int maxConcurrentLaunches = resolveMaxConcurrentLaunches();
+        AtomicInteger threadCount = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(maxConcurrentLaunches, maxConcurrentLaunches,
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "driver-launcher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+
+        logger.info("Driver launcher ready with {} concurrent launch slot(s)", maxConcurrentLaunches);
+    }
+
+    /**
+     * Run a session launch on the launcher executor
+     *
+     * @param launch Creates the session
+     * @return Future completed with the session, or exceptionally if the launch failed
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> launch) {
+        return CompletableFuture.supplyAsync(launch, executor);
+    }
+
+    /**
+     * Get the number of launches allowed to run at the same time
+     */
+    public int getMaxConcurrentLaunches() {
+        return executor.getMaximumPoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private int resolveMaxConcurrentLaunches() {
+        FrameworkConfig.Web.Launcher launcherConfig = frameworkConfig.getWeb().getLauncher();
+        if (launcherConfig.getMaxConcurrentLaunches() > 0) {
+            return launcherConfig.getMaxConcurrentLaunches();
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        long freeMemoryMb = getFreePhysicalMemoryMb();
+        if (freeMemoryMb <= 0) {
+            return cores;
+        }
+
+        long memoryBound = freeMemoryMb / launcherConfig.getMemoryPerSessionMb();
+        return (int) Math.max(1, Math.min(cores, memoryBound));
+    }
+
+    private long getFreePhysicalMemoryMb() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getFreeMemorySize() / (1024 * 1024);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,362 @@
+package com.enterprise.automation.core;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of warm WebDriver sessions for Enterprise Automation Framework
+ *
+ * Features:
+ * - Borrow/return semantics instead of launch-per-test
+ * - Per-browser sub-pools keyed by the resolved driver options
+ * - Hard cap on live sessions per sub-pool (automation.web.pool.max-sessions-per-browser)
+ * - Soft reset between borrowers instead of a relaunch (BrowserSessionResetter)
+ * - Thread affinity: a thread gets back the session it last returned, if still idle
+ * - Pre-warming of sessions before the first test runs
+ * - Non-blocking borrow for async callers that keeps launcher slots for real launches
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class DriverSessionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverSessionPool.class);
+
+    // Upper bound for a single wait on the idle queue, so invalidated sessions free up waiters quickly
+    private static final long MAX_IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    @Autowired
+    private DriverLaunchExecutor launchExecutor;
+
+    @Autowired
+    private BrowserSessionResetter sessionResetter;
+
+    @Autowired
+    private DriverSessionRegistry sessionRegistry;
+
+    @Autowired
+    private DriverShutdownCoordinator shutdownCoordinator;
+
+    private final Map<String, SubPool> subPools = new ConcurrentHashMap<>();
+    private final Set<String> warmedKeys = ConcurrentHashMap.newKeySet();
+
+    // Leased sessions, compared by identity since decorated drivers proxy equals/hashCode
+    private final Map<WebDriver, SubPool> leased = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    // Session each thread last returned, per sub-pool key
+    private final ThreadLocal<Map<String, WebDriver>> lastReturned = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Borrow a session for the given key, creating one if the sub-pool is below its cap
+     *
+     * @param key Sub-pool key (see {@link #keyOf})
+     * @param factory Creates a fully configured session when no idle one is available
+     * @return WebDriver session leased to the caller
+     */
+    public WebDriver borrow(String key, Supplier<WebDriver> factory) {
+        SubPool pool = subPools.computeIfAbsent(key, SubPool::new);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(getPoolConfig().getBorrowTimeout());
+
+        WebDriver previous = takePrevious(pool);
+        if (previous != null) {
+            return previous;
+        }
+
+        try {
+            while (true) {
+                WebDriver driver = pool.idle.pollFirst();
+                if (driver == null && pool.tryReserve(getPoolConfig().getMaxSessionsPerBrowser())) {
+                    driver = create(pool, factory);
+                    logger.info("Created new pooled session for '{}' ({} live)", key, pool.live.get());
+                }
+
+                if (driver == null) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new IllegalStateException("Timed out waiting for a pooled session for '" + key
+                                + "' (max " + getPoolConfig().getMaxSessionsPerBrowser() + " sessions)");
+                    }
+                    driver = pool.idle.pollFirst(Math.min(remaining, MAX_IDLE_POLL_NANOS), TimeUnit.NANOSECONDS);
+                }
+
+                if (driver != null) {
+                    leased.put(driver, pool);
+                    logger.debug("Borrowed pooled session for '{}'", key);
+                    return driver;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled session for '" + key + "'", e);
+        }
+    }
+
+    /**
+     * Borrow a session without blocking the caller.
+     * An idle session is handed out at once and a new one is launched on the launcher executor.
+     * When the sub-pool is at its cap, the wait for a returned session runs on a virtual thread,
+     * so waiting borrowers never hold launcher slots that launches need.
+     *
+     * @param key Sub-pool key (see {@link #keyOf})
+     * @param factory Creates a fully configured session when no idle one is available
+     * @return Future completed with a session leased to the caller
+     */
+    public CompletableFuture<WebDriver> borrowAsync(String key, Supplier<WebDriver> factory) {
+        SubPool pool = subPools.computeIfAbsent(key, SubPool::new);
+
+        WebDriver driver = takePrevious(pool);
+        if (driver == null) {
+            driver = pool.idle.pollFirst();
+            if (driver != null) {
+                leased.put(driver, pool);
+            }
+        }
+        if (driver != null) {
+            return CompletableFuture.completedFuture(driver);
+        }
+
+        if (pool.tryReserve(getPoolConfig().getMaxSessionsPerBrowser())) {
+            return launchExecutor.submit(() -> create(pool, factory)).thenApply(created -> {
+                leased.put(created, pool);
+                logger.info("Created new pooled session for '{}' ({} live)", key, pool.live.get());
+                return created;
+            });
+        }
+
+        // A slot freed up while waiting is still launched on the launcher
+        Supplier<WebDriver> launcherFactory = () -> launchExecutor.submit(factory).join();
+        return CompletableFuture.supplyAsync(() -> borrow(key, launcherFactory),
+                runnable -> Thread.ofVirtual().name("driver-pool-wait").start(runnable));
+    }
+
+    /**
+     * Reset a leased session and return it to its sub-pool.
+     * Sessions that fail to reset are discarded.
+     *
+     * @param driver Session previously obtained from {@link #borrow}
+     */
+    public void release(WebDriver driver) {
+        SubPool pool = leased.remove(driver);
+        if (pool == null) {
+            logger.warn("Released driver is not leased from the pool, quitting it instead");
+            quitQuietly(driver);
+            return;
+        }
+
+        try {
+            sessionResetter.reset(driver);
+            // Before offering it, or a borrower's markOwned could be overwritten
+            sessionRegistry.markPooled(driver);
+            pool.idle.offerFirst(driver);
+            lastReturned.get().put(pool.key, driver);
+            logger.debug("Returned session to pool '{}'", pool.key);
+        } catch (Exception e) {
+            logger.warn("Could not reset pooled session for '{}', discarding it: {}", pool.key, e.getMessage());
+            discard(pool, driver);
+        }
+    }
+
+    /**
+     * Remove a leased session from the pool and quit it (e.g. after a crashed browser)
+     *
+     * @param driver Session previously obtained from {@link #borrow}
+     */
+    public void invalidate(WebDriver driver) {
+        SubPool pool = leased.remove(driver);
+        if (pool != null) {
+            discard(pool, driver);
+        } else {
+            quitQuietly(driver);
+        }
+    }
+
+    /**
+     * Pre-create idle sessions for the given key, up to the requested count and the pool cap.
+     * Sessions are launched in parallel on the launcher executor.
+     * Each key is warmed at most once per pool lifetime.
+     *
+     * @param key Sub-pool key
+     * @param count Number of idle sessions wanted
+     * @param factory Creates a fully configured session
+     * @return Number of sessions created
+     */
+    public int warmUp(String key, int count, Supplier<WebDriver> factory) {
+        if (!warmedKeys.add(key)) {
+            return 0;
+        }
+
+        SubPool pool = subPools.computeIfAbsent(key, SubPool::new);
+        List<CompletableFuture<WebDriver>> launches = new ArrayList<>();
+
+        while (pool.idle.size() + launches.size() < count
+                && pool.tryReserve(getPoolConfig().getMaxSessionsPerBrowser())) {
+            launches.add(launchExecutor.submit(() -> create(pool, factory)));
+        }
+
+        int created = 0;
+        for (CompletableFuture<WebDriver> launch : launches) {
+            try {
+                WebDriver driver = launch.join();
+                sessionRegistry.markPooled(driver);
+                pool.idle.offerLast(driver);
+                created++;
+            } catch (CompletionException e) {
+                logger.warn("Could not warm up session for '{}': {}", key, e.getCause().getMessage());
+            }
+        }
+
+        if (created > 0) {
+            logger.info("Warmed up {} session(s) for '{}'", created, key);
+        }
+        return created;
+    }
+
+    /**
+     * Check whether the given driver is currently leased from this pool
+     */
+    public boolean isLeased(WebDriver driver) {
+        return driver != null && leased.containsKey(driver);
+    }
+
+    /**
+     * Get the number of idle sessions for a key
+     */
+    public int getIdleCount(String key) {
+        SubPool pool = subPools.get(key);
+        return pool == null ? 0 : pool.idle.size();
+    }
+
+    /**
+     * Get the number of live (idle + leased) sessions for a key
+     */
+    public int getLiveCount(String key) {
+        SubPool pool = subPools.get(key);
+        return pool == null ? 0 : pool.live.get();
+    }
+
+    /**
+     * Build a sub-pool key from the execution target and the resolved options.
+     * Sessions are only shared between callers that would have created identical drivers.
+     *
+     * @param executionMode Execution mode
+     * @param hubUrl Remote hub URL (null for local execution)
+     * @param browserType Browser name
+     * @param optionsFingerprint Fingerprint of the resolved options (see BrowserOptionsTemplates)
+     * @return Sub-pool key
+     */
+    public static String keyOf(WebDriverManager.ExecutionMode executionMode, String hubUrl,
+                               String browserType, int optionsFingerprint) {
+        return browserType + "@" + executionMode
+                + (hubUrl != null ? "[" + hubUrl + "]" : "")
+                + "#" + Integer.toHexString(optionsFingerprint);
+    }
+
+    /**
+     * Quit every idle session. Leased sessions are quit by their owners.
+     */
+    @PreDestroy
+    public void shutdown() {
+        List<WebDriver> drivers = new ArrayList<>();
+        subPools.values().forEach(pool -> {
+            WebDriver driver;
+            while ((driver = pool.idle.pollFirst()) != null) {
+                pool.live.decrementAndGet();
+                drivers.add(driver);
+            }
+        });
+        shutdownCoordinator.quitAll(drivers);
+        logger.info("Driver session pool shut down");
+    }
+
+    /**
+     * Lease the session this thread returned last, if it is still idle; another thread may have taken it since
+     */
+    private WebDriver takePrevious(SubPool pool) {
+        WebDriver previous = lastReturned.get().remove(pool.key);
+        if (previous != null && pool.idle.removeFirstOccurrence(previous)) {
+            leased.put(previous, pool);
+            logger.debug("Borrowed this thread's previous session for '{}'", pool.key);
+            return previous;
+        }
+        return null;
+    }
+
+    private WebDriver create(SubPool pool, Supplier<WebDriver> factory) {
+        try {
+            return factory.get();
+        } catch (RuntimeException e) {
+            pool.live.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void discard(SubPool pool, WebDriver driver) {
+        pool.live.decrementAndGet();
+        quitQuietly(driver);
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error quitting pooled driver: {}", e.getMessage());
+        } finally {
+            sessionRegistry.unregister(driver);
+        }
+    }
+
+    private FrameworkConfig.Web.Pool getPoolConfig() {
+        return frameworkConfig.getWeb().getPool();
+    }
+
+    /**
+     * Sessions sharing one resolved configuration
+     */
+    private static final class SubPool {
+        private final String key;
+        private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+        private final AtomicInteger live = new AtomicInteger();
+
+        private SubPool(String key) {
+            this.key = key;
+        }
+
+        private boolean tryReserve(int maxSessions) {
+            int current;
+            do {
+                current = live.get();
+                if (current >= maxSessions) {
+                    return false;
+                }
+            } while (!live.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package com.enterprise.automation.core;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of every live WebDriver session, keyed by session ID
+ *
+ * Features:
+ * - Owner, creation time and last-use time per session, independent of thread IDs
+ * - Background reaper quitting sessions whose owner thread died or that went unused for
+ *   automation.web.reaper.idle-timeout (idle pooled sessions are exempt)
+ * - Local browser and driver service processes recorded at launch and killed if they outlive their session
+ * - Stray chromedriver/geckodriver/msedgedriver children of this JVM killed at shutdown
+ * - Hard kill of a session's process tree for DriverShutdownCoordinator when quit() hangs
+ *
+ * Only processes started by this JVM are ever touched, so parallel runs on the same agent are safe.
+ * Last-use time is updated per command while automation.web.monitoring is enabled, otherwise
+ * whenever a session changes hands; without monitoring a test-owned session is only reaped once its
+ * owner thread is gone, so a long test is never cut off.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class DriverSessionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverSessionRegistry.class);
+
+    private static final Set<String> DRIVER_EXECUTABLES = Set.of("chromedriver", "geckodriver", "msedgedriver");
+
+    // Time a quit browser gets to exit on its own before its processes are killed
+    private static final long EXIT_GRACE_MILLIS = 2000;
+
+    /**
+     * Who is responsible for a session
+     */
+    public enum State {
+        // Bound to a test thread
+        OWNED,
+        // Started with initializeDriverAsync, owned by whoever holds the future
+        DETACHED,
+        // Idle in DriverSessionPool
+        POOLED
+    }
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    // Lazy, since the pool reports its own discards back to this registry
+    @Lazy
+    @Autowired
+    private DriverSessionPool sessionPool;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    // Session IDs that got an activity listener and are not registered yet
+    private final Set<String> pendingActivityTracking = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService reaper;
+
+    /**
+     * One registered browser session
+     */
+    public static final class Session {
+
+        private final String id;
+        private final WebDriver driver;
+        private final String browser;
+        private final boolean local;
+        private final Instant createdAt = Instant.now();
+        // Browser and driver service processes, for local sessions whose processes could be found
+        private final List<ProcessHandle> processes;
+        // Whether every command updates lastUsedNanos; without monitoring only state changes do
+        private final boolean activityTracked;
+        private volatile long lastUsedNanos = System.nanoTime();
+        private volatile State state = State.DETACHED;
+        private volatile WeakReference<Thread> owner = new WeakReference<>(null);
+        private volatile String ownerName;
+
+        private Session(String id, WebDriver driver, String browser, boolean local, List<ProcessHandle> processes,
+                        boolean activityTracked) {
+            this.id = id;
+            this.driver = driver;
+            this.browser = browser;
+            this.local = local;
+            this.processes = processes;
+            this.activityTracked = activityTracked;
+        }
+
+        private void touch() {
+            lastUsedNanos = System.nanoTime();
+        }
+
+        private void changeState(State newState, Thread newOwner) {
+            owner = new WeakReference<>(newOwner);
+            ownerName = newOwner == null ? null : newOwner.getName();
+            state = newState;
+            touch();
+        }
+
+        private boolean isOrphaned() {
+            Thread thread = owner.get();
+            return state == State.OWNED && (thread == null || !thread.isAlive());
+        }
+
+        /**
+         * An untracked session owned by a live thread may be in a long test; its idle time says nothing
+         */
+        private boolean isIdleFor(Duration idleTimeout) {
+            if (state == State.POOLED || (state == State.OWNED && !activityTracked)) {
+                return false;
+            }
+            return getIdleTime().compareTo(idleTimeout) > 0;
+        }
+
+        private Duration getIdleTime() {
+            return Duration.ofNanos(System.nanoTime() - lastUsedNanos);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public String getOwner() {
+            return ownerName;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public Instant getLastUsedAt() {
+            return Instant.now().minus(getIdleTime());
+        }
+
+        @Override
+        public String toString() {
+            return browser + " session " + id + " (" + state + (ownerName != null ? ", owner " + ownerName : "")
+                    + ", idle " + getIdleTime().toSeconds() + "s)";
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        FrameworkConfig.Web.Reaper reaperConfig = frameworkConfig.getWeb().getReaper();
+        if (!reaperConfig.isEnabled()) {
+            return;
+        }
+
+        reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-session-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reaper.scheduleWithFixedDelay(this::reap, reaperConfig.getInterval(), reaperConfig.getInterval(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Register a newly created session, initially detached
+     *
+     * @param driver Driver as handed out to callers, possibly decorated
+     * @param browserType Browser name
+     * @param local Whether the browser runs on this machine, so its processes can be tracked
+     * @return Registered session
+     */
+    public Session register(WebDriver driver, String browserType, boolean local) {
+        List<ProcessHandle> processes = local ? findProcesses(driver) : List.of();
+        String id = sessionIdOf(driver);
+        Session session = new Session(id, driver, browserType, local, processes, pendingActivityTracking.remove(id));
+        sessions.put(session.id, session);
+        logger.debug("Registered {} with processes {}", session, pids(processes));
+        return session;
+    }
+
+    /**
+     * Mark a session as owned by the current thread
+     */
+    public void markOwned(WebDriver driver) {
+        changeState(driver, State.OWNED, Thread.currentThread());
+    }
+
+    /**
+     * Mark a session as held outside any test thread, e.g. by an async launch caller
+     */
+    public void markDetached(WebDriver driver) {
+        changeState(driver, State.DETACHED, null);
+    }
+
+    /**
+     * Mark a session as idle in the session pool
+     */
+    public void markPooled(WebDriver driver) {
+        changeState(driver, State.POOLED, null);
+    }
+
+    /**
+     * Listener that updates the session's last-use time on every command.
+     * Sessions registered without one are never idle-reaped while their owner thread is alive.
+     *
+     * @param driver Undecorated driver the listener will be attached to, not registered yet
+     */
+    public DriverCommandListener activityListener(WebDriver driver) {
+        String id = sessionIdOf(driver);
+        pendingActivityTracking.add(id);
+        return new DriverCommandListener() {
+            @Override
+            public void beforeCommand(Object target, Method method, Object[] args) {
+                Session session = sessions.get(id);
+                if (session != null) {
+                    session.touch();
+                }
+            }
+        };
+    }
+
+    /**
+     * Forget a session that has been quit, killing any of its processes still running
+     */
+    public void unregister(WebDriver driver) {
+        Session session = find(driver);
+        if (session != null && sessions.remove(session.id, session)) {
+            destroyProcesses(session, EXIT_GRACE_MILLIS);
+        }
+    }
+
+    /**
+     * Forget a session whose quit() did not finish in time and kill its processes right away
+     *
+     * @return Whether the session's browser ran locally with known processes that could be killed
+     */
+    public boolean kill(WebDriver driver) {
+        Session session = find(driver);
+        if (session == null || !sessions.remove(session.id, session)) {
+            return false;
+        }
+        destroyProcesses(session, 0);
+        return !session.processes.isEmpty();
+    }
+
+    /**
+     * Get the drivers of all sessions in the given states
+     */
+    public List<WebDriver> getDrivers(State... states) {
+        List<State> wanted = Arrays.asList(states);
+        return sessions.values().stream()
+                .filter(session -> wanted.contains(session.state))
+                .map(session -> session.driver)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get a snapshot of all registered sessions
+     */
+    public List<Session> getSessions() {
+        return new ArrayList<>(sessions.values());
+    }
+
+    /**
+     * Get the number of sessions in the given state
+     */
+    public int count(State state) {
+        return (int) sessions.values().stream().filter(session -> session.state == state).count();
+    }
+
+    /**
+     * Quit sessions whose owner thread has died or that went unused for longer than the idle timeout,
+     * then kill stray driver processes older than the idle timeout
+     */
+    public void reap() {
+        Duration idleTimeout = Duration.ofSeconds(frameworkConfig.getWeb().getReaper().getIdleTimeout());
+        try {
+            for (Session session : getSessions()) {
+                if (session.isOrphaned()) {
+                    logger.warn("Reaping {}: owner thread is gone", session);
+                    quit(session);
+                } else if (session.isIdleFor(idleTimeout)) {
+                    logger.warn("Reaping {}: unused for more than {}s", session, idleTimeout.toSeconds());
+                    quit(session);
+                }
+            }
+            // A local session without known processes could own any driver service
+            if (sessions.values().stream().noneMatch(session -> session.local && session.processes.isEmpty())) {
+                killStrayDrivers(Instant.now().minus(idleTimeout));
+            }
+        } catch (RuntimeException e) {
+            // Keep the reaper scheduled
+            logger.error("Session reaper failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+        // DriverShutdownCoordinator has quit every session it could by now; kill what the rest left behind
+        for (Session session : getSessions()) {
+            logger.warn("{} is still registered at shutdown", session);
+            sessions.remove(session.id);
+            destroyProcesses(session, 0);
+        }
+        killStrayDrivers(Instant.MAX);
+    }
+
+    private void changeState(WebDriver driver, State state, Thread owner) {
+        Session session = find(driver);
+        if (session != null) {
+            session.changeState(state, owner);
+        }
+    }
+
+    private Session find(WebDriver driver) {
+        Session session = sessions.get(sessionIdOf(driver));
+        if (session != null) {
+            return session;
+        }
+        // RemoteWebDriver forgets its session ID on quit
+        WebDriver unwrapped = unwrap(driver);
+        return sessions.values().stream()
+                .filter(candidate -> unwrap(candidate.driver) == unwrapped)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void quit(Session session) {
+        sessions.remove(session.id);
+        try {
+            if (sessionPool.isLeased(session.driver)) {
+                sessionPool.invalidate(session.driver);
+            } else {
+                session.driver.quit();
+            }
+        } catch (Exception e) {
+            logger.warn("Error quitting {}: {}", session, e.getMessage());
+        }
+        destroyProcesses(session, EXIT_GRACE_MILLIS);
+    }
+
+    private void destroyProcesses(Session session, long graceMillis) {
+        for (ProcessHandle process : session.processes) {
+            try {
+                process.onExit().get(graceMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                // Still running, killed below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (process.isAlive()) {
+                logger.warn("Killing process {} left behind by {} session {}", process.pid(), session.browser, session.id);
+                destroyTree(process);
+            }
+        }
+    }
+
+    /**
+     * Kill driver services started by this JVM that no registered session accounts for
+     */
+    private void killStrayDrivers(Instant startedBefore) {
+        Set<Long> known = sessions.values().stream()
+                .flatMap(session -> session.processes.stream())
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toSet());
+
+        ProcessHandle.current().children()
+                .filter(process -> !known.contains(process.pid()))
+                .filter(process -> isDriverExecutable(process.info().command()))
+                .filter(process -> process.info().startInstant().map(startedBefore::isAfter).orElse(false))
+                .forEach(process -> {
+                    logger.warn("Killing stray driver process {} ({})", process.pid(),
+                            process.info().command().orElse("unknown"));
+                    destroyTree(process);
+                });
+    }
+
+    private static void destroyTree(ProcessHandle process) {
+        // Browsers outlive their driver service otherwise
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    /**
+     * Find the browser's main process and the driver service that started it, among this JVM's descendants
+     */
+    private static List<ProcessHandle> findProcesses(WebDriver driver) {
+        try {
+            Optional<ProcessHandle> browser = findBrowserProcess(unwrap(driver));
+            if (browser.isEmpty()) {
+                return List.of();
+            }
+            List<ProcessHandle> processes = new ArrayList<>(2);
+            processes.add(browser.get());
+            browser.get().parent()
+                    .filter(parent -> parent.parent().map(ProcessHandle.current()::equals).orElse(false))
+                    .ifPresent(processes::add);
+            return processes;
+        } catch (RuntimeException e) {
+            logger.debug("Could not find browser processes: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static Optional<ProcessHandle> findBrowserProcess(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return Optional.empty();
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+
+        Object firefoxPid = capabilities.getCapability("moz:processID");
+        if (firefoxPid instanceof Number) {
+            return ProcessHandle.of(((Number) firefoxPid).longValue());
+        }
+
+        // Chrome and Edge report their profile directory, which appears on the main process' command line
+        String userDataDir = chromiumUserDataDir(capabilities);
+        if (userDataDir == null) {
+            return Optional.empty();
+        }
+        String profileArgument = "--user-data-dir=" + userDataDir;
+        return ProcessHandle.current().descendants()
+                .filter(process -> process.info().arguments()
+                        .map(arguments -> Arrays.asList(arguments).contains(profileArgument))
+                        .orElse(false))
+                // Renderers carry the flag too; the main process is the one whose parent doesn't
+                .filter(process -> process.parent()
+                        .flatMap(parent -> parent.info().arguments())
+                        .map(arguments -> !Arrays.asList(arguments).contains(profileArgument))
+                        .orElse(true))
+                .findFirst();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String chromiumUserDataDir(Capabilities capabilities) {
+        for (String vendor : List.of("chrome", "msedge")) {
+            Object details = capabilities.getCapability(vendor);
+            if (details instanceof Map) {
+                Object userDataDir = ((Map<String, Object>) details).get("userDataDir");
+                if (userDataDir != null) {
+                    return userDataDir.toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDriverExecutable(Optional<String> command) {
+        return command
+                .map(path -> path.substring(path.lastIndexOf('/') + 1).replace(".exe", ""))
+                .map(DRIVER_EXECUTABLES::contains)
+                .orElse(false);
+    }
+
+    private static String sessionIdOf(WebDriver driver) {
+        WebDriver unwrapped = unwrap(driver);
+        if (unwrapped instanceof RemoteWebDriver && ((RemoteWebDriver) unwrapped).getSessionId() != null) {
+            return ((RemoteWebDriver) unwrapped).getSessionId().toString();
+        }
+        return "local-" + Integer.toHexString(System.identityHashCode(unwrapped));
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        while (driver instanceof WrapsDriver) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        return driver;
+    }
+
+    private static List<Long> pids(List<ProcessHandle> processes) {
+        return processes.stream().map(ProcessHandle::pid).collect(Collectors.toList());
+    }
+}
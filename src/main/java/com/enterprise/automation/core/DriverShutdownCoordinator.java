@@ -0,0 +1,204 @@
+package com.enterprise.automation.core;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Quits driver sessions in parallel within a bounded time
+ *
+ * Features:
+ * - Dedicated daemon executor (automation.web.shutdown.max-parallel-quits), not the common ForkJoinPool
+ * - Deadline per driver, counted from the start of its quit (automation.web.shutdown.quit-timeout)
+ * - A quit past its deadline is abandoned and the browser/driver process tree killed (DriverSessionRegistry)
+ * - JVM shutdown hook quitting every registered session, for runs that end without closing the Spring context
+ * - A driver already being quit is never quit twice, e.g. by the pool and the shutdown hook at once
+ *
+ * Remote sessions have no local processes to kill; a hung remote quit is abandoned and left to the grid's timeout.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class DriverShutdownCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverShutdownCoordinator.class);
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    @Autowired
+    private DriverSessionRegistry sessionRegistry;
+
+    private ThreadPoolExecutor quitExecutor;
+    private ScheduledExecutorService watchdog;
+    private Thread shutdownHook;
+
+    private boolean shutDown;
+
+    // Quits in flight, by driver identity
+    private final Map<WebDriver, CompletableFuture<Void>> inFlight = new IdentityHashMap<>();
+
+    @PostConstruct
+    public void start() {
+        int maxParallelQuits = getShutdownConfig().getMaxParallelQuits();
+        AtomicInteger threadCount = new AtomicInteger();
+
+        quitExecutor = new ThreadPoolExecutor(maxParallelQuits, maxParallelQuits,
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "driver-quit-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        quitExecutor.allowCoreThreadTimeOut(true);
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "driver-quit-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        watchdog = scheduler;
+
+        shutdownHook = new Thread(this::quitRegisteredSessions, "driver-shutdown-hook");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Quit the given drivers in parallel and wait until each has quit or been killed
+     *
+     * @param drivers Drivers to quit
+     */
+    public void quitAll(Collection<WebDriver> drivers) {
+        if (drivers.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> quits = drivers.stream().map(this::quit).collect(Collectors.toList());
+        CompletableFuture.allOf(quits.toArray(new CompletableFuture<?>[0])).join();
+        logger.info("Quit {} driver(s) in {} ms", quits.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Quit a driver on the quit executor
+     *
+     * @param driver Driver to quit
+     * @return Future completed once the driver has quit, or has been killed after missing its deadline
+     */
+    public CompletableFuture<Void> quit(WebDriver driver) {
+        CompletableFuture<Void> done;
+        synchronized (inFlight) {
+            CompletableFuture<Void> running = inFlight.get(driver);
+            if (running != null) {
+                return running;
+            }
+            done = new CompletableFuture<>();
+            inFlight.put(driver, done);
+        }
+        done.whenComplete((ignored, error) -> {
+            synchronized (inFlight) {
+                inFlight.remove(driver);
+            }
+        });
+
+        try {
+            quitExecutor.execute(() -> quitWithDeadline(driver, done));
+        } catch (RejectedExecutionException e) {
+            // Executor already shut down with the context
+            kill(driver, done, "quit executor is shut down");
+        }
+        return done;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        quitRegisteredSessions();
+        quitExecutor.shutdownNow();
+        watchdog.shutdownNow();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // Already running as part of JVM shutdown
+        }
+    }
+
+    private void quitWithDeadline(WebDriver driver, CompletableFuture<Void> done) {
+        Thread quitThread = Thread.currentThread();
+        int quitTimeout = getShutdownConfig().getQuitTimeout();
+        ScheduledFuture<?> deadline = watchdog.schedule(() -> {
+            if (kill(driver, done, "quit() did not finish within " + quitTimeout + "s")) {
+                // Unblocks the quit thread if it is waiting on the driver's HTTP connection
+                quitThread.interrupt();
+            }
+        }, quitTimeout, TimeUnit.SECONDS);
+
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            // An abandoned quit fails once its thread is interrupted; that was already reported
+            if (!done.isDone()) {
+                logger.warn("Error quitting driver: {}", e.getMessage());
+            }
+        } finally {
+            deadline.cancel(false);
+            if (!done.isDone()) {
+                sessionRegistry.unregister(driver);
+                done.complete(null);
+            }
+            // Clear an interrupt from a deadline that fired as quit() returned
+            Thread.interrupted();
+        }
+    }
+
+    private boolean kill(WebDriver driver, CompletableFuture<Void> done, String reason) {
+        if (done.isDone()) {
+            return false;
+        }
+        boolean killed = sessionRegistry.kill(driver);
+        logger.warn("Abandoned quit of {}: {}{}", driver, reason,
+                killed ? ", killed its processes" : ", no local processes to kill");
+        return done.complete(null);
+    }
+
+    /**
+     * Quit everything still registered, at context close or from the JVM shutdown hook, whichever runs first.
+     * Synchronized so the later caller waits instead of shutting the executor down under running quits.
+     */
+    private synchronized void quitRegisteredSessions() {
+        if (shutDown) {
+            return;
+        }
+        shutDown = true;
+        List<WebDriver> drivers = sessionRegistry.getDrivers(DriverSessionRegistry.State.values());
+        if (!drivers.isEmpty()) {
+            logger.info("Quitting {} remaining driver session(s)", drivers.size());
+            quitAll(drivers);
+        }
+    }
+
+    private FrameworkConfig.Web.Shutdown getShutdownConfig() {
+        return frameworkConfig.getWeb().getShutdown();
+    }
+}
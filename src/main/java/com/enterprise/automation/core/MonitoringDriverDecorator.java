@@ -0,0 +1,194 @@
+package com.enterprise.automation.core;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Driver decorator that hands every command to a fixed chain of {@link DriverCommandListener}s
+ *
+ * Features:
+ * - Elements, navigation, options, windows, alerts etc. returned by the driver are decorated too
+ * - JDK dynamic proxies, whose classes the JDK caches; Selenium's WebDriverDecorator (and so
+ *   EventFiringDecorator) generates a new proxy class for every element it returns
+ * - Listeners are called directly instead of resolving per-command listener methods reflectively
+ * - After and error callbacks run in reverse order, so listeners nest like try/finally blocks
+ * - Decorated elements implement WrapsElement, so Selenium unwraps them in scripts and actions
+ *
+ * Create one decorator per driver.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public class MonitoringDriverDecorator {
+
+    // Proxy interfaces per implementation class, e.g. ChromeDriver or RemoteWebElement
+    private static final Map<Class<?>, Class<?>[]> PROXY_INTERFACES = new ConcurrentHashMap<>();
+
+    private final DriverCommandListener[] listeners;
+
+    private WebDriver originalDriver;
+    private WebDriver decoratedDriver;
+
+    public MonitoringDriverDecorator(List<DriverCommandListener> listeners) {
+        this.listeners = listeners.toArray(new DriverCommandListener[0]);
+    }
+
+    /**
+     * Decorate a driver
+     *
+     * @param driver Driver to decorate
+     * @return Driver implementing the same interfaces as the original, plus WrapsDriver
+     */
+    public WebDriver decorate(WebDriver driver) {
+        originalDriver = driver;
+        decoratedDriver = (WebDriver) proxy(driver, WrapsDriver.class);
+        return decoratedDriver;
+    }
+
+    private Object proxy(Object original, Class<?> wrapperInterface) {
+        Class<?>[] interfaces = PROXY_INTERFACES.computeIfAbsent(original.getClass(),
+                type -> proxyInterfaces(type, wrapperInterface));
+        return Proxy.newProxyInstance(MonitoringDriverDecorator.class.getClassLoader(), interfaces,
+                new CommandHandler(original));
+    }
+
+    private static Class<?>[] proxyInterfaces(Class<?> type, Class<?> wrapperInterface) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            collectInterfaces(current, interfaces);
+        }
+        // Non-public interfaces can only be proxied from their own package
+        interfaces.removeIf(candidate -> !Modifier.isPublic(candidate.getModifiers()));
+        interfaces.add(wrapperInterface);
+        return interfaces.toArray(new Class<?>[0]);
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+        for (Class<?> candidate : type.getInterfaces()) {
+            if (interfaces.add(candidate)) {
+                collectInterfaces(candidate, interfaces);
+            }
+        }
+    }
+
+    private Object decorateResult(Object result) {
+        if (result == null) {
+            return null;
+        }
+        if (result == originalDriver) {
+            // switchTo().frame(...) and friends return the driver itself
+            return decoratedDriver;
+        }
+        if (result instanceof WebElement) {
+            return proxy(result, WrapsElement.class);
+        }
+        if (result instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof WebElement) {
+            List<Object> elements = new ArrayList<>(list.size());
+            for (Object element : list) {
+                elements.add(decorateResult(element));
+            }
+            return elements;
+        }
+        if (result instanceof WebDriver.Navigation || result instanceof WebDriver.Options
+                || result instanceof WebDriver.TargetLocator || result instanceof WebDriver.Timeouts
+                || result instanceof WebDriver.Window || result instanceof Alert) {
+            return proxy(result, WrapsDriver.class);
+        }
+        return result;
+    }
+
+    private static Object unwrap(Object value) {
+        if (value != null && Proxy.isProxyClass(value.getClass())
+                && Proxy.getInvocationHandler(value) instanceof CommandHandler handler) {
+            return handler.original;
+        }
+        return value;
+    }
+
+    private final class CommandHandler implements InvocationHandler {
+
+        private final Object original;
+
+        CommandHandler(Object original) {
+            this.original = original;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Class<?> declaringClass = method.getDeclaringClass();
+            if (declaringClass == Object.class) {
+                return invokeObjectMethod(method, args);
+            }
+            if (declaringClass == WrapsElement.class && original instanceof WebElement) {
+                return original;
+            }
+            if (declaringClass == WrapsDriver.class && !(original instanceof WrapsDriver)) {
+                return originalDriver;
+            }
+
+            Object[] callArgs = unwrapArgs(args);
+            for (DriverCommandListener listener : listeners) {
+                listener.beforeCommand(original, method, callArgs);
+            }
+
+            Object result;
+            try {
+                result = decorateResult(method.invoke(original, callArgs));
+            } catch (InvocationTargetException e) {
+                Throwable error = e.getTargetException();
+                for (int i = listeners.length - 1; i >= 0; i--) {
+                    listeners[i].onCommandError(original, method, callArgs, error);
+                }
+                throw error;
+            }
+
+            for (int i = listeners.length - 1; i >= 0; i--) {
+                listeners[i].afterCommand(original, method, callArgs, result);
+            }
+            return result;
+        }
+
+        private Object invokeObjectMethod(Method method, Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    return original.equals(unwrap(args[0]));
+                case "hashCode":
+                    return original.hashCode();
+                default:
+                    return original.toString();
+            }
+        }
+
+        private Object[] unwrapArgs(Object[] args) {
+            if (args == null) {
+                return null;
+            }
+            Object[] unwrapped = args;
+            for (int i = 0; i < args.length; i++) {
+                Object arg = unwrap(args[i]);
+                if (arg != args[i]) {
+                    if (unwrapped == args) {
+                        unwrapped = args.clone();
+                    }
+                    unwrapped[i] = arg;
+                }
+            }
+            return unwrapped;
+        }
+    }
+}
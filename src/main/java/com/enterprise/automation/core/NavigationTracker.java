@@ -0,0 +1,91 @@
+package com.enterprise.automation.core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the commands that replace or switch the current document of a driver
+ *
+ * Features:
+ * - Generation number per driver, bumped by get, close, every navigate() call and frame/window switches
+ * - Lets cached element handles (the web package's page objects) tell that they belong to an older document
+ * - Looked up by the undecorated driver, weakly, so trackers go away with their sessions
+ *
+ * Clicks that trigger a navigation are not seen; cached handles still recover from the resulting
+ * StaleElementReferenceException. Drivers without monitoring have no tracker.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public final class NavigationTracker implements DriverCommandListener {
+
+    private static final Set<String> DOCUMENT_SWITCHES = Set.of(
+            "frame", "parentFrame", "defaultContent", "window", "newWindow");
+
+    private static final Map<WebDriver, NavigationTracker> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private NavigationTracker() {
+    }
+
+    /**
+     * Create the tracker for a driver; add it to the driver's command listeners
+     *
+     * @param driver Undecorated driver
+     */
+    public static NavigationTracker attachTo(WebDriver driver) {
+        NavigationTracker tracker = new NavigationTracker();
+        trackers.put(unwrap(driver), tracker);
+        return tracker;
+    }
+
+    /**
+     * Get the driver's current document generation
+     *
+     * @param driver Driver, decorated or not
+     * @return Generation, or -1 if the driver has no tracker
+     */
+    public static long getGeneration(WebDriver driver) {
+        NavigationTracker tracker = trackers.get(unwrap(driver));
+        return tracker == null ? -1 : tracker.generation.get();
+    }
+
+    @Override
+    public void afterCommand(Object target, Method method, Object[] args, Object result) {
+        if (switchesDocument(target, method)) {
+            generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onCommandError(Object target, Method method, Object[] args, Throwable error) {
+        // A failed navigation may still have left the previous document
+        afterCommand(target, method, args, null);
+    }
+
+    private static boolean switchesDocument(Object target, Method method) {
+        String name = method.getName();
+        if (target instanceof WebDriver.Navigation) {
+            return true;
+        }
+        if (target instanceof WebDriver.TargetLocator) {
+            return DOCUMENT_SWITCHES.contains(name);
+        }
+        return target instanceof WebDriver && (name.equals("get") || name.equals("close"));
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        while (driver instanceof WrapsDriver) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        return driver;
+    }
+}
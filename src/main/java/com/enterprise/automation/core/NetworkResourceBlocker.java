@@ -0,0 +1,241 @@
+package com.enterprise.automation.core;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.BeforeRequestSent;
+import org.openqa.selenium.bidi.network.ContinueRequestParameters;
+import org.openqa.selenium.bidi.network.InterceptPhase;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Blocks requests for resources tests never look at (analytics, ads, fonts, media)
+ *
+ * Features:
+ * - URL patterns from automation.web.capabilities.network.block, '*' matching any run of characters
+ * - Exceptions from automation.web.capabilities.network.allow, e.g. one image among blocked "*.png"
+ * - Chrome/Edge: CDP Network.setBlockedURLs, so blocked requests fail inside the browser with no round trip
+ * - Firefox, and Chrome/Edge with allow patterns: WebDriver BiDi interception, matched here per request
+ * - Lists are per Spring profile, e.g. images blocked only in the ci profile
+ *
+ * BiDi needs the webSocketUrl capability, which BrowserOptionsTemplates sets when {@link #requiresBiDi}
+ * says so. BiDi interception covers the whole session. CDP blocking is per tab: it is installed on the tab
+ * the session starts with and re-applied by {@link #windowListener} whenever a window is opened or switched to,
+ * so it needs monitoring enabled. The first load of a popup the test has not switched to yet is not blocked.
+ * Remote sessions are left unblocked, since RemoteWebDriver exposes neither protocol without augmentation.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class NetworkResourceBlocker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkResourceBlocker.class);
+
+    private static final String CONFIG_KEY = "network";
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    // Written once in init(), read-only afterwards
+    private List<String> blockPatterns = Collections.emptyList();
+    private List<String> allowPatterns = Collections.emptyList();
+    private List<Pattern> blockMatchers = Collections.emptyList();
+    private List<Pattern> allowMatchers = Collections.emptyList();
+
+    /**
+     * Read the block and allow lists
+     *
+     * @throws IllegalStateException if either list is not a list of strings
+     */
+    @PostConstruct
+    public void init() {
+        Map<String, Object> capabilities = frameworkConfig.getWeb().getCapabilities();
+        Object network = capabilities == null ? null : capabilities.get(CONFIG_KEY);
+        if (network == null) {
+            return;
+        }
+        if (!(network instanceof Map<?, ?> networkConfig)) {
+            throw new IllegalStateException("Invalid automation.web.capabilities.network: expected a map but got " + network);
+        }
+
+        blockPatterns = BrowserOptionsTemplates.toStringList(networkConfig.get("block"), "network.block");
+        allowPatterns = BrowserOptionsTemplates.toStringList(networkConfig.get("allow"), "network.allow");
+        blockMatchers = compile(blockPatterns);
+        allowMatchers = compile(allowPatterns);
+
+        if (isEnabled()) {
+            logger.info("Blocking {} URL pattern(s) with {} exception(s)", blockPatterns.size(), allowPatterns.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return !blockPatterns.isEmpty();
+    }
+
+    /**
+     * Check whether sessions of a browser need BiDi for blocking
+     *
+     * @param browserType Browser name
+     * @return true for Firefox, and for Chrome/Edge when allow patterns are configured
+     */
+    public boolean requiresBiDi(String browserType) {
+        if (!isEnabled()) {
+            return false;
+        }
+        switch (browserType) {
+            case "firefox":
+                return true;
+            case "chrome":
+            case "edge":
+                // setBlockedURLs has no exceptions, so the allow list has to be applied here
+                return !allowPatterns.isEmpty();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Install request blocking on a new session, before its first navigation
+     *
+     * @param driver Undecorated driver
+     */
+    public void apply(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+                interceptWithBiDi(driver);
+            } else if (usesCdp(driver)) {
+                if (!allowPatterns.isEmpty()) {
+                    logger.warn("No BiDi connection, blocking without the {} allow pattern(s)", allowPatterns.size());
+                }
+                blockWithCdp((HasCdp) driver);
+            } else {
+                logger.debug("Request blocking not available for {}", driver.getClass().getSimpleName());
+            }
+        } catch (WebDriverException e) {
+            // Slower page loads, but the session is still usable
+            logger.warn("Could not install request blocking: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Create the listener that carries CDP blocking over to other windows of a session
+     *
+     * @param driver Undecorated driver
+     * @return Listener to add to the driver's command listeners, or null if the session needs none
+     */
+    public DriverCommandListener windowListener(WebDriver driver) {
+        return isEnabled() && usesCdp(driver) ? new CdpWindowBlocker((HasCdp) driver) : null;
+    }
+
+    /**
+     * Check a URL against the block and allow lists
+     */
+    public boolean isBlocked(String url) {
+        return matchesAny(blockMatchers, url) && !matchesAny(allowMatchers, url);
+    }
+
+    private static boolean usesCdp(WebDriver driver) {
+        return driver instanceof HasCdp && !(driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent());
+    }
+
+    private void blockWithCdp(HasCdp cdp) {
+        cdp.executeCdpCommand("Network.enable", Map.of());
+        cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blockPatterns));
+    }
+
+    private void interceptWithBiDi(WebDriver driver) {
+        // BiDi URL patterns have no wildcards, so every request is paused and matched here
+        Network network = new Network(driver);
+        String intercept = network.addIntercept(new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT));
+        network.onBeforeRequestSent(event -> {
+            if (event.isBlocked() && event.getIntercepts().contains(intercept)) {
+                resume(network, event);
+            }
+        });
+    }
+
+    private void resume(Network network, BeforeRequestSent event) {
+        String requestId = event.getRequest().getRequestId();
+        try {
+            if (isBlocked(event.getRequest().getUrl())) {
+                network.failRequest(requestId);
+            } else {
+                network.continueRequest(new ContinueRequestParameters(requestId));
+            }
+        } catch (WebDriverException e) {
+            // The session is closing
+            logger.debug("Could not resume request {}: {}", requestId, e.getMessage());
+        }
+    }
+
+    /**
+     * Re-applies setBlockedURLs after window switches, since CDP commands only reach the current tab
+     */
+    private final class CdpWindowBlocker implements DriverCommandListener {
+
+        private final HasCdp cdp;
+        // Handles already switched to; a tab keeps its blocked URLs once set
+        private final Set<String> blockedHandles = ConcurrentHashMap.newKeySet();
+
+        private CdpWindowBlocker(HasCdp cdp) {
+            this.cdp = cdp;
+        }
+
+        @Override
+        public void afterCommand(Object target, Method method, Object[] args, Object result) {
+            if (!(target instanceof WebDriver.TargetLocator)) {
+                return;
+            }
+            String name = method.getName();
+            if (name.equals("newWindow") || (name.equals("window") && blockedHandles.add(String.valueOf(args[0])))) {
+                try {
+                    blockWithCdp(cdp);
+                } catch (WebDriverException e) {
+                    logger.warn("Could not install request blocking in the new window: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static List<Pattern> compile(List<String> patterns) {
+        // Same wildcard semantics as CDP: '*' matches anything, everything else literally
+        return patterns.stream()
+                .map(pattern -> Pattern.compile(Arrays.stream(pattern.split("\\*", -1))
+                        .map(Pattern::quote)
+                        .collect(Collectors.joining(".*"))))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean matchesAny(List<Pattern> matchers, String url) {
+        for (Pattern matcher : matchers) {
+            if (matcher.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
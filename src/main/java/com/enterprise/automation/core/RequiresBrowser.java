@@ -0,0 +1,29 @@
+package com.enterprise.automation.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Browser a test needs, on a test method or a test class
+ *
+ * Tests without it run on automation.web.browser. A method annotation overrides the class one.
+ * BrowserAffinityInterceptor uses it to run tests for the same browser back to back.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RequiresBrowser {
+
+    /**
+     * Browser name (chrome, firefox, edge, safari)
+     */
+    String value();
+}
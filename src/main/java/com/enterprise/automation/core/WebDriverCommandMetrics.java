@@ -0,0 +1,196 @@
+package com.enterprise.automation.core;
+
+import com.enterprise.automation.config.FrameworkConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-command latency metrics for WebDriver sessions
+ *
+ * Features:
+ * - Times every call going through the MonitoringDriverDecorator (findElement, click, executeScript, get, ...)
+ * - One Micrometer timer per command, browser, thread and outcome, named webdriver.command
+ * - p50/p95/p99 from Micrometer's HdrHistogram-backed percentiles, kept for the whole run
+ * - Failed calls are timed too; a findElement that waits out the implicit wait is often the slowest thing in a suite
+ * - Summary table and JSON report at suite end
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class WebDriverCommandMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebDriverCommandMetrics.class);
+
+    public static final String TIMER_NAME = "webdriver.command";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    // Start times of the calls in flight on this thread; a stack because listeners may call back into the driver
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private record TimerKey(String command, String browser, String thread, String outcome) {
+    }
+
+    @PostConstruct
+    public void init() {
+        // Actuator provides the registry; plain library use still gets working timers
+        meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * Create a listener that records command timings for a session of the given browser
+     *
+     * @param browser Browser type used as the timer's browser tag
+     * @return Listener to pass to MonitoringDriverDecorator
+     */
+    public DriverCommandListener listenerFor(String browser) {
+        String browserTag = browser != null ? browser.toLowerCase() : "unknown";
+
+        return new DriverCommandListener() {
+            @Override
+            public void beforeCommand(Object target, Method method, Object[] args) {
+                startTimes.get().push(System.nanoTime());
+            }
+
+            @Override
+            public void afterCommand(Object target, Method method, Object[] args, Object result) {
+                record(method, browserTag, "success");
+            }
+
+            @Override
+            public void onCommandError(Object target, Method method, Object[] args, Throwable error) {
+                record(method, browserTag, "error");
+            }
+        };
+    }
+
+    /**
+     * Log a summary of all command timings, slowest total first, and write the JSON report
+     */
+    public void report() {
+        List<Map<String, Object>> rows = snapshot();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        StringBuilder table = new StringBuilder(String.format("%n%-40s %-8s %-28s %-7s %8s %10s %9s %9s %9s %9s",
+                "Command", "Browser", "Thread", "Outcome", "Count", "Total ms", "p50 ms", "p95 ms", "p99 ms", "Max ms"));
+        for (Map<String, Object> row : rows) {
+            table.append(String.format("%n%-40s %-8s %-28s %-7s %8d %10.1f %9.1f %9.1f %9.1f %9.1f",
+                    row.get("command"), row.get("browser"), row.get("thread"), row.get("outcome"), row.get("count"),
+                    row.get("totalMs"), row.get("p50Ms"), row.get("p95Ms"), row.get("p99Ms"), row.get("maxMs")));
+        }
+        logger.info("WebDriver command timings:{}", table);
+
+        writeReport(rows);
+    }
+
+    /**
+     * Get one row per timer with count, total, max and percentiles in milliseconds, slowest total first
+     */
+    public List<Map<String, Object>> snapshot() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        timers.forEach((key, timer) -> {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("command", key.command());
+            row.put("browser", key.browser());
+            row.put("thread", key.thread());
+            row.put("outcome", key.outcome());
+            row.put("count", snapshot.count());
+            row.put("totalMs", snapshot.total(TimeUnit.MILLISECONDS));
+            row.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                row.put("p" + Math.round(percentile.percentile() * 100) + "Ms", percentile.value(TimeUnit.MILLISECONDS));
+            }
+            rows.add(row);
+        });
+        rows.sort(Comparator.comparingDouble((Map<String, Object> row) -> (Double) row.get("totalMs")).reversed());
+        return rows;
+    }
+
+    private void record(Method method, String browser, String outcome) {
+        Long start = startTimes.get().poll();
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        String command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        TimerKey key = new TimerKey(command, browser, Thread.currentThread().getName(), outcome);
+        timers.computeIfAbsent(key, this::newTimer).record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer newTimer(TimerKey key) {
+        return Timer.builder(TIMER_NAME)
+                .description("WebDriver command latency")
+                .tag("command", key.command())
+                .tag("browser", key.browser())
+                .tag("thread", key.thread())
+                .tag("outcome", key.outcome())
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                // Micrometer rotates percentiles every few minutes by default; a suite summary needs the whole run
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(meterRegistry);
+    }
+
+    private void writeReport(List<Map<String, Object>> rows) {
+        String location = frameworkConfig.getReporting().getCommandMetricsReport();
+        if (location == null || location.isBlank()) {
+            return;
+        }
+
+        Path report = Paths.get(location);
+        try {
+            if (report.getParent() != null) {
+                Files.createDirectories(report.getParent());
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), rows);
+            logger.info("WebDriver command timings written to {}", report);
+        } catch (IOException e) {
+            logger.warn("Could not write WebDriver command timings to {}: {}", report, e.getMessage());
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.enterprise.automation.core;
 
-import com.enterprise.automation.config.ChromeConfig;
 import com.enterprise.automation.config.FrameworkConfig;
+import com.enterprise.automation.reporting.PhaseTimings;
 
-import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.UnexpectedAlertBehaviour;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -13,35 +14,27 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
-import org.openqa.selenium.support.events.EventFiringDecorator;
-import org.openqa.selenium.support.events.WebDriverListener;
-//Import the static methods for all supported browsers
-import static io.github.bonigarcia.wdm.WebDriverManager.chromedriver;
-import static io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver;
-import static io.github.bonigarcia.wdm.WebDriverManager.edgedriver;
-//Safari is not managed by WDM, so no static import is needed for it
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.context.annotation.Scope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.openqa.selenium.Dimension;
-import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.UnexpectedAlertBehaviour;
 import org.openqa.selenium.remote.AbstractDriverOptions;
 import org.openqa.selenium.remote.LocalFileDetector;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Spring Boot integrated WebDriver Manager for Enterprise Automation Framework
@@ -52,8 +45,17 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Automatic configuration from application.yml
  * - Multiple browser support with custom capabilities
  * - Remote execution support (Grid, Docker, Cloud)
- * - Event listening and monitoring
+ * - Configurable command listeners (MonitoringDriverDecorator), off means no proxy at all
  * - Profile-based environment configuration
+ * - Warm session pooling with borrow/return semantics
+ * - Driver binaries resolved once per JVM (DriverBinaryResolver)
+ * - Browser options precompiled at startup (BrowserOptionsTemplates)
+ * - Parallel cross-browser session startup (initializeDriverAsync)
+ * - Per-command latency metrics (WebDriverCommandMetrics)
+ * - Session launch, configure and quit timed as test phases (PhaseTimings)
+ * - Sessions tracked by session ID with a reaper for leaked ones (DriverSessionRegistry)
+ * - Bounded-time parallel shutdown with hard kill of hung browsers (DriverShutdownCoordinator)
+ * - Configurable blocking of resources tests never use (NetworkResourceBlocker)
  * 
  * @author Enterprise Automation Team
  * @version 3.0 (Spring Boot Integration)
@@ -67,18 +69,76 @@ public class WebDriverManager {
     @Autowired
     private FrameworkConfig frameworkConfig;
     
+    @Autowired
+    private DriverBinaryResolver binaryResolver;
+    
+    @Autowired
+    private WebDriverCommandMetrics commandMetrics;
+    
+    @Autowired
+    private BrowserOptionsTemplates optionsTemplates;
+    
+    @Autowired
+    private DriverLaunchExecutor launchExecutor;
+    
+    @Autowired
+    private NetworkResourceBlocker networkBlocker;
+    
     // Thread-safe driver storage for parallel execution
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<String> browserThreadLocal = new ThreadLocal<>();
     
-    // Driver instances tracking for cleanup
-    private static final Map<Long, WebDriver> driverInstances = new ConcurrentHashMap<>();
+    // Every live session with its owner, and the pool; static because quitDriver and quitAllDrivers are
+    private static DriverSessionRegistry sessionRegistry;
+    private static DriverShutdownCoordinator shutdownCoordinator;
+    private static DriverSessionPool sessionPool;
+    
+    // Logs page loads and failed commands
+    private static final DriverCommandListener NAVIGATION_LOGGER = new DriverCommandListener() {
+        @Override
+        public void beforeCommand(Object target, Method method, Object[] args) {
+            if (isGet(target, method)) {
+                logger.info("Navigating to: {}", args[0]);
+            }
+        }
+        
+        @Override
+        public void afterCommand(Object target, Method method, Object[] args, Object result) {
+            if (isGet(target, method)) {
+                logger.info("Successfully navigated to: {}", args[0]);
+            }
+        }
+        
+        @Override
+        public void onCommandError(Object target, Method method, Object[] args, Throwable error) {
+            logger.error("WebDriver error occurred: {}", error.getMessage());
+        }
+        
+        private boolean isGet(Object target, Method method) {
+            return target instanceof WebDriver && method.getName().equals("get");
+        }
+    };
     
     // Execution modes
     public enum ExecutionMode {
         LOCAL, REMOTE, DOCKER, CLOUD
     }
     
+    @Autowired
+    private void setSessionRegistry(DriverSessionRegistry registry) {
+        WebDriverManager.sessionRegistry = registry;
+    }
+    
+    @Autowired
+    private void setShutdownCoordinator(DriverShutdownCoordinator coordinator) {
+        WebDriverManager.shutdownCoordinator = coordinator;
+    }
+    
+    @Autowired
+    private void setSessionPool(DriverSessionPool pool) {
+        WebDriverManager.sessionPool = pool;
+    }
+    
     /**
      * Initialize WebDriver using Spring Boot configuration
      * Reads settings from application.yml
@@ -97,45 +157,38 @@ public class WebDriverManager {
      * @return WebDriver instance
      */
     public WebDriver initializeDriver(ExecutionMode executionMode, String hubUrl) {
+        return initializeDriver(executionMode, hubUrl, frameworkConfig.getWeb().getBrowser());
+    }
+    
+    /**
+     * Initialize WebDriver for a specific browser and execution mode
+     * 
+     * @param executionMode Execution mode (local, remote, etc.)
+     * @param hubUrl Remote hub URL (for remote execution)
+     * @param browser Browser name (chrome, firefox, edge, safari)
+     * @return WebDriver instance
+     */
+    public WebDriver initializeDriver(ExecutionMode executionMode, String hubUrl, String browser) {
         try {
-            FrameworkConfig.Web webConfig = frameworkConfig.getWeb();
-            String browserType = webConfig.getBrowser().toLowerCase();
-            boolean headless = webConfig.isHeadless();
+            String browserType = browser.toLowerCase();
+            boolean headless = frameworkConfig.getWeb().isHeadless();
             
             logger.info("Initializing {} driver in {} mode (headless: {})", 
                        browserType, executionMode, headless);
             
-            WebDriver driver = null;
-            
-            switch (executionMode) {
-                case LOCAL:
-                    driver = createLocalDriver(browserType, headless);
-                    break;
-                case REMOTE:
-                    driver = createRemoteDriver(browserType, headless, hubUrl);
-                    break;
-                case DOCKER:
-                    driver = createDockerDriver(browserType, headless, hubUrl);
-                    break;
-                case CLOUD:
-                    driver = createCloudDriver(browserType, headless, hubUrl);
-                    break;
-                default:
-                    throw new IllegalArgumentException("Unsupported execution mode: " + executionMode);
+            if (driverThreadLocal.get() != null) {
+                // Overwriting it would leave the previous browser running with nobody to quit it
+                logger.warn("Thread {} still holds a driver from an earlier test, releasing it first",
+                           Thread.currentThread().getName());
+                releaseDriver();
             }
             
-            // Configure driver with settings from application.yml
-            configureDriverFromConfig(driver);
-            
-            // Add event listener for monitoring
-            driver = addEventListener(driver);
+            WebDriver driver = acquireDriver(executionMode, hubUrl, browserType, headless);
             
             // Store in thread local for parallel execution
             driverThreadLocal.set(driver);
             browserThreadLocal.set(browserType);
-            
-            // Track driver instance for cleanup
-            driverInstances.put(Thread.currentThread().getId(), driver);
+            sessionRegistry.markOwned(driver);
             
             logger.info("Driver initialized successfully: {}", browserType);
             return driver;
@@ -146,6 +199,152 @@ public class WebDriverManager {
         }
     }
     
+    /**
+     * Start a driver on the launcher executor without blocking the calling thread.
+     * The returned driver is not bound to any thread; release it with {@link #releaseDriver(WebDriver)}.
+     * 
+     * @param executionMode Execution mode (local, remote, etc.)
+     * @param hubUrl Remote hub URL (for remote execution)
+     * @param browser Browser name (chrome, firefox, edge, safari)
+     * @return Future completed with the WebDriver instance
+     */
+    public CompletableFuture<WebDriver> initializeDriverAsync(ExecutionMode executionMode, String hubUrl, String browser) {
+        String browserType = browser.toLowerCase();
+        boolean headless = frameworkConfig.getWeb().isHeadless();
+        
+        logger.info("Scheduling {} driver in {} mode (headless: {})", browserType, executionMode, headless);
+        
+        return acquireDriverAsync(executionMode, hubUrl, browserType, headless)
+                .thenApply(driver -> {
+                    sessionRegistry.markDetached(driver);
+                    logger.info("Driver initialized asynchronously: {}", browserType);
+                    return driver;
+                });
+    }
+    
+    /**
+     * Start drivers for several browsers concurrently, e.g. for a cross-browser matrix
+     * 
+     * @param executionMode Execution mode (local, remote, etc.)
+     * @param hubUrl Remote hub URL (for remote execution)
+     * @param browsers Browser names
+     * @return Futures keyed by browser name, in request order
+     */
+    public Map<String, CompletableFuture<WebDriver>> initializeDriversAsync(ExecutionMode executionMode, String hubUrl,
+                                                                            String... browsers) {
+        Map<String, CompletableFuture<WebDriver>> launches = new LinkedHashMap<>();
+        for (String browser : browsers) {
+            launches.put(browser, initializeDriverAsync(executionMode, hubUrl, browser));
+        }
+        return launches;
+    }
+    
+    /**
+     * Pre-create idle pooled sessions for the configured browser
+     * Does nothing unless automation.web.pool.enabled is true
+     */
+    public void warmUpPool() {
+        warmUpPool(ExecutionMode.LOCAL, null);
+    }
+    
+    /**
+     * Pre-create idle pooled sessions for the configured browser and execution mode
+     * 
+     * @param executionMode Execution mode (local, remote, etc.)
+     * @param hubUrl Remote hub URL (for remote execution)
+     */
+    public void warmUpPool(ExecutionMode executionMode, String hubUrl) {
+        FrameworkConfig.Web webConfig = frameworkConfig.getWeb();
+        if (!webConfig.getPool().isEnabled() || webConfig.getPool().getWarmUpSize() == 0) {
+            return;
+        }
+        
+        String browserType = webConfig.getBrowser().toLowerCase();
+        boolean headless = webConfig.isHeadless();
+        String poolKey = DriverSessionPool.keyOf(executionMode, hubUrl, browserType,
+                optionsTemplates.getFingerprint(browserType, headless));
+        
+        sessionPool.warmUp(poolKey, webConfig.getPool().getWarmUpSize(),
+                () -> createDriver(executionMode, browserType, headless, hubUrl));
+    }
+    
+    /**
+     * Borrow a pooled session or create a new one, depending on configuration
+     */
+    private WebDriver acquireDriver(ExecutionMode executionMode, String hubUrl, String browserType, boolean headless) {
+        if (!frameworkConfig.getWeb().getPool().isEnabled()) {
+            return createDriver(executionMode, browserType, headless, hubUrl);
+        }
+        
+        // Borrow a warm session instead of launching a new browser
+        String poolKey = DriverSessionPool.keyOf(executionMode, hubUrl, browserType,
+                optionsTemplates.getFingerprint(browserType, headless));
+        return PhaseTimings.time("driver.borrow",
+                () -> sessionPool.borrow(poolKey, () -> createDriver(executionMode, browserType, headless, hubUrl)));
+    }
+    
+    /**
+     * Borrow or create a session without blocking the caller.
+     * Pool borrows happen here, so only real launches take a launcher slot.
+     */
+    private CompletableFuture<WebDriver> acquireDriverAsync(ExecutionMode executionMode, String hubUrl,
+                                                          String browserType, boolean headless) {
+        if (!frameworkConfig.getWeb().getPool().isEnabled()) {
+            return launchExecutor.submit(() -> createDriver(executionMode, browserType, headless, hubUrl));
+        }
+        
+        String poolKey = DriverSessionPool.keyOf(executionMode, hubUrl, browserType,
+                optionsTemplates.getFingerprint(browserType, headless));
+        return sessionPool.borrowAsync(poolKey, () -> createDriver(executionMode, browserType, headless, hubUrl));
+    }
+    
+    /**
+     * Create, configure and decorate a new driver session
+     */
+    private WebDriver createDriver(ExecutionMode executionMode, String browserType,
+                                   boolean headless, String hubUrl) {
+        // Cheap copy of the options template compiled at startup
+        AbstractDriverOptions<?> options = optionsTemplates.newOptions(browserType, headless);
+        WebDriver driver = PhaseTimings.time("driver.launch",
+                () -> launchDriver(executionMode, browserType, options, hubUrl));
+        
+        boolean local = executionMode == ExecutionMode.LOCAL;
+        WebDriver decorated;
+        try {
+            // Configure driver with settings from application.yml
+            PhaseTimings.time("driver.configure", () -> configureDriverFromConfig(driver));
+            
+            // Add event listener for monitoring
+            decorated = addEventListener(driver, browserType);
+        } catch (RuntimeException e) {
+            // Nothing else knows about this browser yet; register it so a hung quit can still be killed
+            sessionRegistry.register(driver, browserType, local);
+            shutdownCoordinator.quit(driver).join();
+            throw e;
+        }
+        sessionRegistry.register(decorated, browserType, local);
+        return decorated;
+    }
+    
+    /**
+     * Start a browser session for the execution mode
+     */
+    private WebDriver launchDriver(ExecutionMode executionMode, String browserType,
+                                   AbstractDriverOptions<?> options, String hubUrl) {
+        switch (executionMode) {
+            case LOCAL:
+                return createLocalDriver(browserType, options);
+            case REMOTE:
+                return createRemoteDriver(browserType, options, hubUrl);
+            case DOCKER:
+                return createDockerDriver(browserType, options, hubUrl);
+            case CLOUD:
+                return createCloudDriver(browserType, options, hubUrl);
+            default:
+                throw new IllegalArgumentException("Unsupported execution mode: " + executionMode);
+        }
+    }
+    
     /**
      * Get current thread's WebDriver instance
      * 
@@ -171,55 +370,53 @@ public class WebDriverManager {
     /**
      * Create local WebDriver instance based on Spring Boot configuration
      */
-    private WebDriver createLocalDriver(String browserType, boolean headless) {
+    private WebDriver createLocalDriver(String browserType, AbstractDriverOptions<?> options) {
+        // Safari is not managed by WDM, so there is no binary to resolve
+        if ("safari".equals(browserType)) {
+            return new SafariDriver((SafariOptions) options);
+        }
+        
+        DriverBinaryResolver.ResolvedDriver resolved = binaryResolver.resolve(browserType);
         WebDriver driver;
+        try {
+            driver = startLocalDriver(browserType, options);
+        } catch (SessionNotCreatedException e) {
+            if (!resolved.fromIndex()) {
+                throw e;
+            }
+            // The browser was most likely upgraded since the index entry was written
+            logger.warn("Indexed {} driver {} could not start a session, resolving again: {}",
+                       browserType, resolved.driverVersion(), e.getMessage());
+            binaryResolver.invalidate(browserType);
+            binaryResolver.resolve(browserType);
+            driver = startLocalDriver(browserType, options);
+        }
         
+        binaryResolver.recordBrowserVersion(browserType,
+                ((HasCapabilities) driver).getCapabilities().getBrowserVersion());
+        return driver;
+    }
+    
+    private WebDriver startLocalDriver(String browserType, AbstractDriverOptions<?> options) {
         switch (browserType) {
             case "chrome":
-                chromedriver().setup();
-                driver = new ChromeDriver(getChromeOptionsFromConfig(headless));
-                break;
-                
+                return new ChromeDriver((ChromeOptions) options);
             case "firefox":
-                firefoxdriver().setup();
-                driver = new FirefoxDriver(getFirefoxOptionsFromConfig(headless));
-                break;
-                
+                return new FirefoxDriver((FirefoxOptions) options);
             case "edge":
-                edgedriver().setup();
-                driver = new EdgeDriver(getEdgeOptionsFromConfig());
-                break;
-                
-            case "safari":
-                driver = new SafariDriver();
-                break;
-                
+                return new EdgeDriver((EdgeOptions) options);
             default:
                 throw new IllegalArgumentException("Unsupported browser: " + browserType);
         }
-        
-        return driver;
     }
     
     /**
      * Modern approach for creating remote WebDriver (Selenium 4+)
      */
-    private WebDriver createRemoteDriver(String browserType, boolean headless, String hubUrl) {
+    private WebDriver createRemoteDriver(String browserType, AbstractDriverOptions<?> options, String hubUrl) {
         try {
-            AbstractDriverOptions<?> options;
-            
-            switch (browserType.toLowerCase()) {
-                case "chrome":
-                    options = getChromeOptionsFromConfig(headless);
-                    break;
-                case "firefox":
-                    options = getFirefoxOptionsFromConfig(headless);
-                    break;
-                case "edge":
-                    options = getEdgeOptionsFromConfig();
-                    break;
-                default:
-                    throw new IllegalArgumentException("Unsupported remote browser: " + browserType);
+            if (options instanceof SafariOptions) {
+                throw new IllegalArgumentException("Unsupported remote browser: " + browserType);
             }
             
             logger.info("Creating remote WebDriver for {} at {}", browserType, hubUrl);
@@ -240,214 +437,15 @@ public class WebDriverManager {
     /**
      * Create Docker WebDriver instance
      */
-    private WebDriver createDockerDriver(String browserType, boolean headless, String dockerUrl) {
-        return createRemoteDriver(browserType, headless, dockerUrl);
+    private WebDriver createDockerDriver(String browserType, AbstractDriverOptions<?> options, String dockerUrl) {
+        return createRemoteDriver(browserType, options, dockerUrl);
     }
     
     /**
      * Create Cloud WebDriver instance
      */
-    private WebDriver createCloudDriver(String browserType, boolean headless, String cloudUrl) {
-        return createRemoteDriver(browserType, headless, cloudUrl);
-    }
-    
-    /**
-     * Get Chrome options from Spring Boot configuration
-     */
-    /**
-     * Get Chrome options from Spring Boot configuration
-     * This enhanced version reads all 'args' from the YAML capabilities map.
-     */
-	/*
-	 * private ChromeOptions getChromeOptionsFromConfig(boolean headless) {
-	 * ChromeOptions options = new ChromeOptions(); FrameworkConfig.Web webConfig =
-	 * frameworkConfig.getWeb();
-	 * 
-	 * // Apply headless mode if (headless) {
-	 * options.addArguments("--headless=new"); }
-	 * 
-	 * // Get Chrome-specific capabilities from YAML Map<String, Object>
-	 * chromeConfig = webConfig.getBrowserCapabilities("chrome"); if (chromeConfig
-	 * != null) { // Handle Chrome arguments if (chromeConfig.containsKey("args")) {
-	 * 
-	 * @SuppressWarnings("unchecked") List<String> args = (List<String>)
-	 * chromeConfig.get("args"); if (args != null && !args.isEmpty()) {
-	 * options.addArguments(args); logger.debug("Added Chrome arguments: {}", args);
-	 * } }
-	 * 
-	 * // Handle Chrome preferences if (chromeConfig.containsKey("prefs")) {
-	 * 
-	 * @SuppressWarnings("unchecked") Map<String, Object> prefs = (Map<String,
-	 * Object>) chromeConfig.get("prefs"); if (prefs != null && !prefs.isEmpty()) {
-	 * options.setExperimentalOption("prefs", prefs);
-	 * logger.debug("Added Chrome preferences: {}", prefs); } }
-	 * 
-	 * // Handle experimental options if
-	 * (chromeConfig.containsKey("experimentalOptions")) {
-	 * 
-	 * @SuppressWarnings("unchecked") Map<String, Object> expOptions = (Map<String,
-	 * Object>) chromeConfig.get("experimentalOptions");
-	 * expOptions.forEach(options::setExperimentalOption); } }
-	 * 
-	 * // Apply global capabilities Map<String, Object> capabilities =
-	 * webConfig.getCapabilities(); if (capabilities != null) { if
-	 * (capabilities.containsKey("acceptInsecureCerts")) {
-	 * options.setAcceptInsecureCerts((Boolean)
-	 * capabilities.get("acceptInsecureCerts")); }
-	 * 
-	 * if (capabilities.containsKey("pageLoadStrategy")) {
-	 * options.setPageLoadStrategy(PageLoadStrategy.fromString((String)
-	 * capabilities.get("pageLoadStrategy"))); }
-	 * 
-	 * if (capabilities.containsKey("unhandledPromptBehavior")) {
-	 * options.setUnhandledPromptBehaviour(UnexpectedAlertBehaviour.fromString((
-	 * String) capabilities.get("unhandledPromptBehavior"))); } }
-	 * 
-	 * // Default download preferences if not specified in config if (chromeConfig
-	 * == null || !chromeConfig.containsKey("prefs")) { Map<String, Object>
-	 * defaultPrefs = new HashMap<>();
-	 * defaultPrefs.put("download.default_directory", System.getProperty("user.dir")
-	 * + "/downloads"); defaultPrefs.put("download.prompt_for_download", false);
-	 * defaultPrefs.put("download.directory_upgrade", true);
-	 * defaultPrefs.put("safeBrowse.enabled", true);
-	 * options.setExperimentalOption("prefs", defaultPrefs); }
-	 * 
-	 * logger.debug("Chrome options configured successfully"); return options; }
-	 */
-    /**
-     * Get Firefox options from Spring Boot configuration
-     */
-    @Autowired
-    private ChromeConfig chromeConfig;
-    private ChromeOptions getChromeOptionsFromConfig(boolean headlessOverride) {
-        ChromeOptions options = new ChromeOptions();
-        List<String> args = new ArrayList<>(chromeConfig.getArgs());
-
-        // Inject headless flag from override if it's not already in YAML
-        if (headlessOverride && args.stream().noneMatch(arg -> arg.contains("headless"))) {
-            args.add("--headless=new");
-        }
-
-        options.addArguments(args);
-        options.setExperimentalOption("prefs", chromeConfig.getPrefs());
-        return options;
-    }
-
-
-    private FirefoxOptions getFirefoxOptionsFromConfig(boolean headless) {
-        FirefoxOptions options = new FirefoxOptions();
-        FrameworkConfig.Web webConfig = frameworkConfig.getWeb();
-
-        // Apply headless mode
-        if (headless) {
-            options.addArguments("--headless");
-        }
-
-        // Get Firefox-specific capabilities from YAML
-        Map<String, Object> firefoxConfig = webConfig.getBrowserCapabilities("firefox");
-        if (firefoxConfig != null) {
-            // Handle Firefox arguments
-            if (firefoxConfig.containsKey("args")) {
-                @SuppressWarnings("unchecked")
-                List<String> args = (List<String>) firefoxConfig.get("args");
-                if (args != null && !args.isEmpty()) {
-                    options.addArguments(args);
-                    logger.debug("Added Firefox arguments: {}", args);
-                }
-            }
-            
-            // Handle Firefox preferences
-            if (firefoxConfig.containsKey("prefs")) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> prefs = (Map<String, Object>) firefoxConfig.get("prefs");
-                if (prefs != null) {
-                    prefs.forEach((key, value) -> {
-                        if (value instanceof Boolean) {
-                            options.addPreference(key, (Boolean) value);
-                        } else if (value instanceof Integer) {
-                            options.addPreference(key, (Integer) value);
-                        } else {
-                            options.addPreference(key, value.toString());
-                        }
-                    });
-                    logger.debug("Added Firefox preferences: {}", prefs);
-                }
-            }
-        }
-
-        // Apply global capabilities
-        Map<String, Object> capabilities = webConfig.getCapabilities();
-        if (capabilities != null) {
-            if (capabilities.containsKey("acceptInsecureCerts")) {
-                options.setAcceptInsecureCerts((Boolean) capabilities.get("acceptInsecureCerts"));
-            }
-            
-            if (capabilities.containsKey("pageLoadStrategy")) {
-                options.setPageLoadStrategy(PageLoadStrategy.fromString((String) capabilities.get("pageLoadStrategy")));
-            }
-        }
-
-        // Default preferences if not specified in config
-        if (firefoxConfig == null || !firefoxConfig.containsKey("prefs")) {
-            options.addPreference("dom.webnotifications.enabled", false);
-            options.addPreference("media.volume_scale", "0.0");
-            options.addPreference("browser.download.folderList", 2);
-            options.addPreference("browser.download.dir", System.getProperty("user.dir") + "/downloads");
-        }
-
-        logger.debug("Firefox options configured successfully");
-        return options;
-    }
-    
-    /**
-     * Get Edge options from Spring Boot configuration
-     */
-    private EdgeOptions getEdgeOptionsFromConfig() {
-        EdgeOptions options = new EdgeOptions();
-        FrameworkConfig.Web webConfig = frameworkConfig.getWeb();
-
-        // Get Edge-specific capabilities from YAML
-        Map<String, Object> edgeConfig = webConfig.getBrowserCapabilities("edge");
-        if (edgeConfig != null) {
-            // Handle Edge arguments
-            if (edgeConfig.containsKey("args")) {
-                @SuppressWarnings("unchecked")
-                List<String> args = (List<String>) edgeConfig.get("args");
-                if (args != null && !args.isEmpty()) {
-                    options.addArguments(args);
-                    logger.debug("Added Edge arguments: {}", args);
-                }
-            }
-            
-            // Handle experimental options
-            if (edgeConfig.containsKey("experimentalOptions")) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> expOptions = (Map<String, Object>) edgeConfig.get("experimentalOptions");
-                expOptions.forEach(options::setExperimentalOption);
-            }
-        }
-
-        // Apply global capabilities
-        Map<String, Object> capabilities = webConfig.getCapabilities();
-        if (capabilities != null) {
-            if (capabilities.containsKey("acceptInsecureCerts")) {
-                options.setAcceptInsecureCerts((Boolean) capabilities.get("acceptInsecureCerts"));
-            }
-            
-            if (capabilities.containsKey("pageLoadStrategy")) {
-                options.setPageLoadStrategy(PageLoadStrategy.fromString((String) capabilities.get("pageLoadStrategy")));
-            }
-        }
-
-        // Default arguments if not specified in config
-        if (edgeConfig == null || !edgeConfig.containsKey("args")) {
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-dev-shm-usage");
-            options.addArguments("--disable-gpu");
-        }
-
-        logger.debug("Edge options configured successfully");
-        return options;
+    private WebDriver createCloudDriver(String browserType, AbstractDriverOptions<?> options, String cloudUrl) {
+        return createRemoteDriver(browserType, options, cloudUrl);
     }
     
     /**
@@ -460,7 +458,8 @@ public class WebDriverManager {
             // Configure timeouts
             int timeout = webConfig.getTimeout();
             WebDriver.Timeouts timeouts = driver.manage().timeouts();
-            timeouts.implicitlyWait(Duration.ofSeconds(timeout));
+            // Element waits are explicit (SmartWait), so lookups for absent elements return at once
+            timeouts.implicitlyWait(Duration.ofSeconds(webConfig.getImplicitWait()));
             timeouts.pageLoadTimeout(Duration.ofSeconds(timeout * 2));
             timeouts.scriptTimeout(Duration.ofSeconds(timeout));
             
@@ -483,16 +482,10 @@ public class WebDriverManager {
                 driver.manage().window().maximize();
             }
             
-            // Clear cookies and storage
-            driver.manage().deleteAllCookies();
+            // A new session starts with an empty profile; reused sessions are cleaned by BrowserSessionResetter
             
-            // Clear local storage and session storage (if supported)
-            try {
-                ((JavascriptExecutor) driver).executeScript("window.localStorage.clear();");
-                ((JavascriptExecutor) driver).executeScript("window.sessionStorage.clear();");
-            } catch (Exception e) {
-                logger.debug("Could not clear browser storage: {}", e.getMessage());
-            }
+            // Block analytics, ads and other configured resources before the first page load
+            networkBlocker.apply(driver);
             
             logger.info("Driver configured successfully with timeout: {}s", timeout);
             
@@ -503,41 +496,57 @@ public class WebDriverManager {
     }
     
     /**
-     * Add event listener for monitoring and logging
+     * Wrap the driver with the configured command listeners.
+     * Returns the driver itself when monitoring is off, so commands go straight to the browser.
      */
-    private WebDriver addEventListener(WebDriver driver) {
-        WebDriverListener listener = new WebDriverListener() {
-            @Override
-            public void beforeGet(WebDriver driver, String url) {
-                logger.info("Navigating to: {}", url);
-            }
-            
-            @Override
-            public void afterGet(WebDriver driver, String url) {
-                logger.info("Successfully navigated to: {}", url);
-            }
-            
-            @Override
-            public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
-                logger.error("WebDriver error occurred: {}", e.getTargetException().getMessage());
-            }
-        };
+    private WebDriver addEventListener(WebDriver driver, String browserType) {
+        FrameworkConfig.Web.Monitoring monitoring = frameworkConfig.getWeb().getMonitoring();
+        if (!monitoring.isEnabled()) {
+            return driver;
+        }
         
-        return new EventFiringDecorator<>(listener).decorate(driver);
+        List<DriverCommandListener> listeners = new ArrayList<>(5);
+        if (monitoring.isLogNavigation()) {
+            listeners.add(NAVIGATION_LOGGER);
+        }
+        if (monitoring.isCommandMetrics()) {
+            listeners.add(commandMetrics.listenerFor(browserType));
+        }
+        // Last-use time for the session reaper
+        listeners.add(sessionRegistry.activityListener(driver));
+        // Lets page objects drop element handles cached for a previous document
+        listeners.add(NavigationTracker.attachTo(driver));
+        // CDP request blocking only reaches the current tab, so it follows window switches
+        DriverCommandListener windowBlocker = networkBlocker.windowListener(driver);
+        if (windowBlocker != null) {
+            listeners.add(windowBlocker);
+        }
+        
+        return new MonitoringDriverDecorator(listeners).decorate(driver);
     }
     
     /**
      * Quit current thread's driver
+     * A pooled session is removed from the pool rather than returned; prefer {@link #releaseDriver()}
      */
     public static void quitDriver() {
         try {
             WebDriver driver = driverThreadLocal.get();
             if (driver != null) {
                 logger.info("Quitting driver for thread: {}", Thread.currentThread().getId());
-                driver.quit();
                 driverThreadLocal.remove();
                 browserThreadLocal.remove();
-                driverInstances.remove(Thread.currentThread().getId());
+                if (sessionPool != null && sessionPool.isLeased(driver)) {
+                    // Frees its slot under the sub-pool's live cap, which a plain quit would leak
+                    PhaseTimings.time("driver.quit", () -> sessionPool.invalidate(driver));
+                    logger.info("Pooled driver quit and removed from the pool");
+                    return;
+                }
+                try {
+                    PhaseTimings.time("driver.quit", driver::quit);
+                } finally {
+                    sessionRegistry.unregister(driver);
+                }
                 logger.info("Driver quit successfully");
             }
         } catch (Exception e) {
@@ -545,23 +554,61 @@ public class WebDriverManager {
         }
     }
     
+    /**
+     * Release current thread's driver
+     * Pooled sessions are reset and returned to the pool, others are quit
+     */
+    public void releaseDriver() {
+        WebDriver driver = driverThreadLocal.get();
+        if (driver == null || !sessionPool.isLeased(driver)) {
+            quitDriver();
+            return;
+        }
+        
+        try {
+            logger.info("Returning pooled driver for thread: {}", Thread.currentThread().getId());
+            driverThreadLocal.remove();
+            browserThreadLocal.remove();
+            PhaseTimings.time("driver.release", () -> sessionPool.release(driver));
+        } catch (Exception e) {
+            logger.error("Error while releasing driver: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Release a driver obtained from {@link #initializeDriverAsync}
+     * Pooled sessions are reset and returned to the pool, others are quit
+     * 
+     * @param driver WebDriver instance
+     */
+    public void releaseDriver(WebDriver driver) {
+        try {
+            if (sessionPool.isLeased(driver)) {
+                sessionPool.release(driver);
+            } else {
+                driver.quit();
+                sessionRegistry.unregister(driver);
+            }
+        } catch (Exception e) {
+            logger.error("Error while releasing driver: {}", e.getMessage(), e);
+        }
+    }
+    
     /**
      * Quit all driver instances (cleanup method)
+     * Quits run in parallel; a driver that misses automation.web.shutdown.quit-timeout has its browser killed
      */
     public static void quitAllDrivers() {
         logger.info("Quitting all driver instances...");
         
-        driverInstances.values().parallelStream().forEach(driver -> {
-            try {
-                if (driver != null) {
-                    driver.quit();
-                }
-            } catch (Exception e) {
-                logger.warn("Error quitting driver: {}", e.getMessage());
-            }
-        });
+        if (sessionRegistry == null) {
+            return;
+        }
+        
+        // Idle pooled sessions are quit by the pool itself
+        shutdownCoordinator.quitAll(sessionRegistry.getDrivers(
+                DriverSessionRegistry.State.OWNED, DriverSessionRegistry.State.DETACHED));
         
-        driverInstances.clear();
         logger.info("All drivers quit successfully");
     }
     
@@ -576,7 +623,7 @@ public class WebDriverManager {
      * Get active driver count
      */
     public static int getActiveDriverCount() {
-        return driverInstances.size();
+        return sessionRegistry == null ? 0 : sessionRegistry.count(DriverSessionRegistry.State.OWNED);
     }
     
     /**
@@ -0,0 +1,167 @@
+package com.enterprise.automation.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Typed query helper for database verification steps
+ *
+ * Features:
+ * - Every call borrows a pooled connection and returns it straight away
+ * - Parameterized statements only, so the prepared statement cache is hit
+ * - Typed single-value, single-row and list results
+ * - SQL failures rethrown unchecked with the statement that failed
+ *
+ * Usage:
+ * <pre>
+ * long count = databaseClient.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ?", Long.class, userId);
+ * List&lt;String&gt; names = databaseClient.query("SELECT name FROM users", rs -&gt; rs.getString("name"));
+ * </pre>
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class DatabaseClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseClient.class);
+
+    @Autowired
+    private DatabaseConnectionPool connectionPool;
+
+    /**
+     * Maps the current row of a result set
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Run a query and map every row
+     *
+     * @param sql Statement with ? placeholders
+     * @param mapper Maps one row
+     * @param params Placeholder values in order
+     * @return Mapped rows
+     */
+    public <T> List<T> query(String sql, RowMapper<T> mapper, Object... params) {
+        return execute(sql, params, statement -> {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<T> rows = new ArrayList<>();
+                while (resultSet.next()) {
+                    rows.add(mapper.map(resultSet));
+                }
+                return rows;
+            }
+        });
+    }
+
+    /**
+     * Run a query expected to return at most one row
+     *
+     * @return The mapped row, or empty if there was none or it mapped to null
+     * @throws IllegalStateException if more than one row came back
+     */
+    public <T> Optional<T> queryForOptional(String sql, RowMapper<T> mapper, Object... params) {
+        List<T> rows = queryForAtMostOne(sql, mapper, params);
+        return rows.isEmpty() ? Optional.empty() : Optional.ofNullable(rows.get(0));
+    }
+
+    /**
+     * Run a query returning a single value, such as a count
+     *
+     * @param type Type of the first column
+     * @return The value of the first column of the only row; null if that value is SQL NULL,
+     *         e.g. SELECT MAX(x) on an empty table
+     * @throws IllegalStateException if the query returned no row
+     */
+    public <T> T queryForObject(String sql, Class<T> type, Object... params) {
+        List<T> rows = queryForAtMostOne(sql, resultSet -> resultSet.getObject(1, type), params);
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("Expected one row but got none: " + sql);
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * Run a query and return each row as column label to value, in column order
+     */
+    public List<Map<String, Object>> queryForList(String sql, Object... params) {
+        return query(sql, resultSet -> {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            Map<String, Object> row = new LinkedHashMap<>(metaData.getColumnCount() * 2);
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                row.put(metaData.getColumnLabel(column), resultSet.getObject(column));
+            }
+            return row;
+        }, params);
+    }
+
+    /**
+     * Run an INSERT, UPDATE or DELETE
+     *
+     * @return Number of affected rows
+     */
+    public int update(String sql, Object... params) {
+        return execute(sql, params, PreparedStatement::executeUpdate);
+    }
+
+    /**
+     * Get the DataSource behind this client, for code that needs plain JDBC
+     */
+    public DataSource getDataSource() {
+        return connectionPool.getDataSource();
+    }
+
+    /**
+     * Map the only row, if any; a list so that a row mapped to null still counts as found
+     */
+    private <T> List<T> queryForAtMostOne(String sql, RowMapper<T> mapper, Object... params) {
+        return execute(sql, params, statement -> {
+            statement.setMaxRows(2);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<T> rows = new ArrayList<>(1);
+                if (resultSet.next()) {
+                    rows.add(mapper.map(resultSet));
+                    if (resultSet.next()) {
+                        throw new IllegalStateException("Expected at most one row but got more: " + sql);
+                    }
+                }
+                return rows;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface StatementCallback<T> {
+        T doInStatement(PreparedStatement statement) throws SQLException;
+    }
+
+    private <T> T execute(String sql, Object[] params, StatementCallback<T> callback) {
+        logger.debug("Executing SQL: {}", sql);
+        try (Connection connection = connectionPool.getDataSource().getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            return callback.doInStatement(statement);
+        } catch (SQLException e) {
+            throw new RuntimeException("SQL execution failed: " + sql, e);
+        }
+    }
+}
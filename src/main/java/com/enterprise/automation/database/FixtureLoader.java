@@ -0,0 +1,361 @@
+package com.enterprise.automation.database;
+
+import com.enterprise.automation.config.FrameworkConfig;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Batched test data seeding for database fixtures
+ *
+ * Features:
+ * - Streams rows from CSV or JSON files; a fixture is never held in memory
+ * - JDBC batch inserts of automation.database.batch-size rows
+ * - Transactional teardown (rollback) or truncate-based teardown
+ *
+ * Usage:
+ * <pre>
+ * try (FixtureSession fixtures = fixtureLoader.open(FixtureLoader.Teardown.TRUNCATE)) {
+ *     fixtures.load("users", "fixtures/users.csv");
+ *     fixtures.load("orders", "fixtures/orders.json");
+ *     // run the test
+ * }
+ * </pre>
+ *
+ * CSV files need a header row naming the columns; empty unquoted values are inserted as NULL.
+ * JSON files hold an array of flat objects; the first object decides the columns.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class FixtureLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(FixtureLoader.class);
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*(\\.[A-Za-z_][A-Za-z0-9_$]*)?");
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    @Autowired
+    private DatabaseConnectionPool connectionPool;
+
+    /**
+     * How a fixture session cleans up when it is closed
+     */
+    public enum Teardown {
+        /**
+         * Rows are never committed and are rolled back on close. Only visible through
+         * {@link FixtureSession#getConnection()}, so verification must use that connection.
+         */
+        TRANSACTIONAL,
+        /**
+         * Rows are committed after each file and every loaded table is truncated on close
+         */
+        TRUNCATE
+    }
+
+    /**
+     * Open a fixture session on a pooled connection of the active environment
+     *
+     * @param teardown How the session cleans up on close
+     * @return Session that owns the connection until it is closed
+     */
+    public FixtureSession open(Teardown teardown) {
+        try {
+            Connection connection = connectionPool.getDataSource().getConnection();
+            connection.setAutoCommit(false);
+            return new FixtureSession(this, connection, teardown);
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not open fixture session", e);
+        }
+    }
+
+    /**
+     * Stream a fixture file into a table in batches
+     *
+     * @return Number of inserted rows
+     */
+    long insert(Connection connection, String table, String location) throws SQLException {
+        requireIdentifier(table);
+        long start = System.nanoTime();
+
+        long rows;
+        try (InputStream in = openFixture(location)) {
+            RowSource source = location.toLowerCase().endsWith(".json") ? new JsonRowSource(in) : new CsvRowSource(in);
+            rows = insertRows(connection, table, source);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fixture " + location, e);
+        }
+
+        logger.info("Loaded {} rows into {} from {} in {} ms", rows, table, location,
+                (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Empty a table
+     */
+    void truncate(Connection connection, String table) throws SQLException {
+        requireIdentifier(table);
+        try (PreparedStatement statement = connection.prepareStatement("TRUNCATE TABLE " + table)) {
+            statement.executeUpdate();
+        }
+    }
+
+    private long insertRows(Connection connection, String table, RowSource source) throws IOException, SQLException {
+        List<String> columns = source.columns();
+        if (columns.isEmpty()) {
+            return 0;
+        }
+        columns.forEach(FixtureLoader::requireIdentifier);
+
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        int batchSize = frameworkConfig.getDatabase().getBatchSize();
+
+        long rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            List<Object> row;
+            while ((row = source.next()) != null) {
+                if (row.size() != columns.size()) {
+                    throw new IllegalArgumentException(String.format("Fixture row %d for %s has %d values but %d columns",
+                            rows + 1, table, row.size(), columns.size()));
+                }
+                for (int i = 0; i < row.size(); i++) {
+                    statement.setObject(i + 1, row.get(i));
+                }
+                statement.addBatch();
+                if (++rows % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+            if (rows % batchSize != 0) {
+                statement.executeBatch();
+            }
+        }
+        return rows;
+    }
+
+    private InputStream openFixture(String location) throws IOException {
+        InputStream resource = Thread.currentThread().getContextClassLoader().getResourceAsStream(location);
+        if (resource != null) {
+            return resource;
+        }
+
+        Path path = Paths.get(location);
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("Fixture not found on classpath or file system: " + location);
+        }
+        return Files.newInputStream(path);
+    }
+
+    private static void requireIdentifier(String name) {
+        // Table and column names end up in SQL text, so only allow plain identifiers
+        if (name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid table or column name in fixture: " + name);
+        }
+    }
+
+    private interface RowSource {
+        List<String> columns() throws IOException;
+
+        /**
+         * @return Next row's values in column order, or null at the end
+         */
+        List<Object> next() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV: quoted values may contain commas, doubled quotes and line breaks
+     */
+    private static final class CsvRowSource implements RowSource {
+
+        private final BufferedReader reader;
+        private List<String> columns;
+
+        CsvRowSource(InputStream in) {
+            reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        public List<String> columns() throws IOException {
+            if (columns == null) {
+                List<Object> header = readRecord();
+                columns = new ArrayList<>();
+                if (header != null) {
+                    header.forEach(name -> columns.add(name == null ? null : name.toString().trim()));
+                }
+            }
+            return columns;
+        }
+
+        @Override
+        public List<Object> next() throws IOException {
+            columns();
+            return readRecord();
+        }
+
+        private List<Object> readRecord() throws IOException {
+            int c = reader.read();
+            while (c == '\r' || c == '\n') {
+                c = reader.read();
+            }
+            if (c == -1) {
+                return null;
+            }
+
+            List<Object> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            boolean wasQuoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Unterminated quoted value in CSV fixture");
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            value.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        value.append((char) c);
+                    }
+                } else if (c == '"' && value.length() == 0) {
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (c == ',' || c == '\n' || c == '\r' || c == -1) {
+                    values.add(value.length() == 0 && !wasQuoted ? null : value.toString());
+                    value.setLength(0);
+                    wasQuoted = false;
+                    if (c != ',') {
+                        return values;
+                    }
+                } else {
+                    value.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+
+    /**
+     * JSON array of flat objects, read token by token
+     */
+    private final class JsonRowSource implements RowSource {
+
+        private final JsonParser parser;
+        private List<String> columns;
+        private List<Object> firstRow;
+
+        JsonRowSource(InputStream in) throws IOException {
+            parser = jsonFactory.createParser(in);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON fixture must be an array of objects");
+            }
+        }
+
+        @Override
+        public List<String> columns() throws IOException {
+            if (columns == null) {
+                columns = new ArrayList<>();
+                firstRow = readObject(true);
+            }
+            return columns;
+        }
+
+        @Override
+        public List<Object> next() throws IOException {
+            columns();
+            if (firstRow != null) {
+                List<Object> row = firstRow;
+                firstRow = null;
+                return row;
+            }
+            return readObject(false);
+        }
+
+        private List<Object> readObject(boolean defineColumns) throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("JSON fixture must be an array of objects");
+            }
+
+            Object[] values = new Object[defineColumns ? 0 : columns.size()];
+            List<Object> ordered = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                Object value = readValue(parser.nextToken());
+                if (defineColumns) {
+                    columns.add(name);
+                    ordered.add(value);
+                } else {
+                    int index = columns.indexOf(name);
+                    if (index < 0) {
+                        throw new IllegalArgumentException("JSON fixture object has unknown column: " + name);
+                    }
+                    values[index] = value;
+                }
+            }
+            if (defineColumns) {
+                return ordered;
+            }
+
+            List<Object> row = new ArrayList<>(values.length);
+            Collections.addAll(row, values);
+            return row;
+        }
+
+        private Object readValue(JsonToken token) throws IOException {
+            switch (token) {
+                case VALUE_NULL:
+                    return null;
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    return parser.getBooleanValue();
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    return parser.getNumberValue();
+                case VALUE_STRING:
+                    return parser.getText();
+                default:
+                    throw new IllegalArgumentException("JSON fixture values must be scalars, got " + token
+                            + " for " + parser.currentName());
+            }
+        }
+    }
+}
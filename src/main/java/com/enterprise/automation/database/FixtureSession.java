@@ -0,0 +1,112 @@
+package com.enterprise.automation.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fixture data loaded for one test, cleaned up on close
+ *
+ * Holds a single pooled connection until it is closed, so always use try-with-resources.
+ * Not thread-safe; open one session per test thread.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public class FixtureSession implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FixtureSession.class);
+
+    private final FixtureLoader loader;
+    private final Connection connection;
+    private final FixtureLoader.Teardown teardown;
+    private final Set<String> loadedTables = new LinkedHashSet<>();
+
+    FixtureSession(FixtureLoader loader, Connection connection, FixtureLoader.Teardown teardown) {
+        this.loader = loader;
+        this.connection = connection;
+        this.teardown = teardown;
+    }
+
+    /**
+     * Stream a CSV or JSON fixture into a table
+     *
+     * @param table Table name
+     * @param location Classpath resource or file path ending in .csv or .json
+     * @return Number of inserted rows
+     */
+    public long load(String table, String location) {
+        try {
+            loadedTables.add(table);
+            long rows = loader.insert(connection, table, location);
+            if (teardown == FixtureLoader.Teardown.TRUNCATE) {
+                connection.commit();
+            }
+            return rows;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to load fixture " + location + " into " + table, e);
+        }
+    }
+
+    /**
+     * Get the session's connection. With TRANSACTIONAL teardown the fixture rows are only visible here.
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public void close() {
+        try {
+            connection.rollback();
+            if (teardown == FixtureLoader.Teardown.TRUNCATE) {
+                truncateLoadedTables();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Fixture teardown failed for tables " + loadedTables, e);
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+                connection.close();
+            } catch (SQLException e) {
+                logger.warn("Could not return fixture connection to the pool: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void truncateLoadedTables() throws SQLException {
+        if (loadedTables.isEmpty()) {
+            return;
+        }
+
+        // Children are usually loaded after their parents, so truncate in reverse order
+        List<String> tables = new ArrayList<>(loadedTables);
+        Collections.reverse(tables);
+
+        boolean mysql = connection.getMetaData().getURL().startsWith("jdbc:mysql:");
+        try (Statement statement = connection.createStatement()) {
+            if (mysql) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            }
+            try {
+                for (String table : tables) {
+                    loader.truncate(connection, table);
+                }
+            } finally {
+                if (mysql) {
+                    statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+                }
+            }
+        }
+        connection.commit();
+        logger.info("Truncated fixture tables {}", tables);
+    }
+}
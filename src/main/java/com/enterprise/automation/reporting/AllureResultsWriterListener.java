@@ -0,0 +1,67 @@
+package com.enterprise.automation.reporting;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.util.PropertiesUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Installs {@link BufferedAllureResultsWriter} as Allure's results writer for a TestNG run
+ *
+ * Enable with -Dautomation.reporting.results-writer=buffered or =ndjson; anything else keeps
+ * Allure's default one-file-per-result writer. The results directory is Allure's own
+ * allure.results.directory setting.
+ *
+ * Registered through META-INF/services so TestNG creates it before the AllureTestNg listener,
+ * which picks up the lifecycle installed here. This relies on the project classes coming before
+ * allure-testng on the classpath, which is the case for Maven test runs.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public class AllureResultsWriterListener implements IExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(AllureResultsWriterListener.class);
+
+    public static final String RESULTS_WRITER_PROPERTY = "automation.reporting.results-writer";
+
+    private final BufferedAllureResultsWriter writer;
+
+    public AllureResultsWriterListener() {
+        String mode = System.getProperty(RESULTS_WRITER_PROPERTY, "default");
+        if (!mode.equals("buffered") && !mode.equals("ndjson")) {
+            writer = null;
+            return;
+        }
+
+        Properties allureProperties = PropertiesUtils.loadAllureProperties();
+        Path resultsDirectory = Paths.get(allureProperties.getProperty("allure.results.directory", "allure-results"));
+
+        writer = new BufferedAllureResultsWriter(resultsDirectory, mode.equals("ndjson"));
+        Allure.setLifecycle(new AllureLifecycle(writer));
+        // Covers runs that end without onExecutionFinish, e.g. System.exit from a listener
+        Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "allure-results-flush"));
+
+        logger.info("Writing Allure results to {} in {} mode", resultsDirectory, mode);
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (writer == null) {
+            return;
+        }
+
+        writer.close();
+        if (writer.getWrittenCount() == 0) {
+            logger.warn("No Allure results went through the {} writer; check that AllureTestNg was not created "
+                    + "before this listener", System.getProperty(RESULTS_WRITER_PROPERTY));
+        }
+    }
+}
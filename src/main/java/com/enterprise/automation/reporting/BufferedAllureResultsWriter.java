@@ -0,0 +1,301 @@
+package com.enterprise.automation.reporting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Allure results writer that batches file output on a single background thread
+ *
+ * Features:
+ * - Results are serialized on the calling thread and queued as bytes, so later mutation can't leak in
+ * - One writer thread drains the queue in batches and writes through NIO channels
+ * - Optional NDJSON mode: results and containers are appended to one log file and
+ *   expanded into regular Allure files on close, avoiding a file create per result
+ * - Bounded queue; producers block instead of growing the heap when the disk falls behind
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public class BufferedAllureResultsWriter implements AllureResultsWriter, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BufferedAllureResultsWriter.class);
+
+    static final String NDJSON_LOG = "allure-results.ndjson";
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 256;
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private final io.qameta.allure.internal.shadowed.jackson.databind.ObjectMapper allureMapper =
+            Allure2ModelJackson.createMapper();
+    private final ObjectMapper expansionMapper = new ObjectMapper();
+
+    private final Path outputDirectory;
+    private final boolean ndjson;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread writerThread;
+    private final LongAdder written = new LongAdder();
+
+    // Guards the output directory; close() holds the instance monitor while waiting for the writer thread
+    private final Object writeLock = new Object();
+
+    private volatile boolean closed;
+    private boolean logExpanded;
+
+    private record Entry(String fileName, byte[] content, boolean result) {
+    }
+
+    /**
+     * @param outputDirectory Allure results directory
+     * @param ndjson Append results and containers to a single NDJSON log that is expanded on close
+     */
+    public BufferedAllureResultsWriter(Path outputDirectory, boolean ndjson) {
+        this.outputDirectory = outputDirectory;
+        this.ndjson = ndjson;
+        this.writerThread = new Thread(this::drain, "allure-results-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        String uuid = testResult.getUuid() != null ? testResult.getUuid() : UUID.randomUUID().toString();
+        enqueue(new Entry(uuid + "-result.json", serialize(testResult), true));
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        String uuid = testResultContainer.getUuid() != null ? testResultContainer.getUuid() : UUID.randomUUID().toString();
+        enqueue(new Entry(uuid + "-container.json", serialize(testResultContainer), true));
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        // The caller closes the stream when this returns, so read it now
+        try (InputStream in = attachment) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            in.transferTo(content);
+            enqueue(new Entry(source, content.toByteArray(), false));
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not read Allure attachment " + source, e);
+        }
+    }
+
+    /**
+     * Get the number of files written, or results appended to the NDJSON log
+     */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Write everything still queued and, in NDJSON mode, expand the log into Allure files.
+     * Safe to call more than once.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(60));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.warn("Allure results writer did not finish; {} result(s) not written", queue.size());
+            return;
+        }
+
+        // Anything queued while the writer thread was exiting
+        List<Entry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            writeBatch(remaining);
+        }
+
+        if (ndjson) {
+            expandNdjsonLog();
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return allureMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not serialize Allure result", e);
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        if (closed) {
+            // Late results after close still need to land somewhere
+            writeBatch(List.of(entry));
+            return;
+        }
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AllureResultsWriteException("Interrupted while queueing Allure result " + entry.fileName(), e);
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<Entry> batch) {
+        synchronized (writeLock) {
+            try {
+                Files.createDirectories(outputDirectory);
+            } catch (IOException e) {
+                logger.warn("Could not create Allure results directory {}: {}", outputDirectory, e.getMessage());
+                return;
+            }
+
+            // Once the log has been expanded, late results go straight to their own files
+            boolean useLog = ndjson && !logExpanded;
+            if (useLog) {
+                appendToLog(batch);
+            }
+            for (Entry entry : batch) {
+                if (!useLog || !entry.result()) {
+                    writeFile(outputDirectory.resolve(entry.fileName()), entry.content());
+                }
+            }
+        }
+    }
+
+    private void appendToLog(List<Entry> batch) {
+        // One NDJSON line per result: {"file":"<name>","content":<result json>}
+        List<ByteBuffer> lines = new ArrayList<>();
+        for (Entry entry : batch) {
+            if (entry.result()) {
+                lines.add(ByteBuffer.wrap(("{\"file\":\"" + entry.fileName() + "\",\"content\":")
+                        .getBytes(StandardCharsets.UTF_8)));
+                lines.add(ByteBuffer.wrap(compact(entry.content())));
+                lines.add(ByteBuffer.wrap("}\n".getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(outputDirectory.resolve(NDJSON_LOG),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer[] buffers = lines.toArray(new ByteBuffer[0]);
+            while (buffers[buffers.length - 1].hasRemaining()) {
+                channel.write(buffers);
+            }
+            written.add(lines.size() / 3);
+        } catch (IOException e) {
+            logger.warn("Could not append to Allure results log: {}", e.getMessage());
+        }
+    }
+
+    private void writeFile(Path file, byte[] content) {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            written.increment();
+        } catch (IOException e) {
+            logger.warn("Could not write Allure file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void expandNdjsonLog() {
+        synchronized (writeLock) {
+            logExpanded = true;
+            expandNdjsonLog(outputDirectory.resolve(NDJSON_LOG));
+        }
+    }
+
+    private void expandNdjsonLog(Path log) {
+        if (!Files.exists(log)) {
+            return;
+        }
+
+        int expanded = 0;
+        try (BufferedReader reader = Files.newBufferedReader(log, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node = expansionMapper.readTree(line);
+                writeFile(outputDirectory.resolve(node.get("file").asText()),
+                        expansionMapper.writeValueAsBytes(node.get("content")));
+                expanded++;
+            }
+            Files.delete(log);
+            logger.info("Expanded {} Allure results from {}", expanded, log);
+        } catch (IOException | RuntimeException e) {
+            // Keep the log so the results can still be recovered by hand
+            logger.warn("Could not expand Allure results log {} after {} entries: {}", log, expanded, e.getMessage());
+        }
+    }
+
+    /**
+     * NDJSON needs one line per record, so undo any pretty printing from allure.results.indentOutput
+     */
+    private byte[] compact(byte[] json) {
+        for (byte b : json) {
+            if (b == '\n' || b == '\r') {
+                try {
+                    return expansionMapper.writeValueAsBytes(expansionMapper.readTree(json));
+                } catch (IOException e) {
+                    throw new AllureResultsWriteException("Could not compact Allure result", e);
+                }
+            }
+        }
+        return json;
+    }
+}
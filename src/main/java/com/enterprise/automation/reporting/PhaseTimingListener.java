@@ -0,0 +1,240 @@
+package com.enterprise.automation.reporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.qameta.allure.util.PropertiesUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Splits each test into framework and test phases and reports them per suite
+ *
+ * Features:
+ * - Times @BeforeMethod (setup), the test method (test) and @AfterMethod (teardown) of every test
+ * - Picks up finer phases recorded through {@link PhaseTimings}, e.g. driver.launch and driver.quit
+ * - p50/p95/p99 per phase and the framework share of total test time at suite end
+ * - JSON report in target (override with -Dautomation.reporting.phase-report-dir)
+ * - Overhead and the most expensive phases listed in the Allure report's Environment section
+ *
+ * Register with @Listeners(PhaseTimingListener.class), as BaseTest does.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public class PhaseTimingListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhaseTimingListener.class);
+
+    public static final String REPORT_DIRECTORY_PROPERTY = "automation.reporting.phase-report-dir";
+
+    // Phases per suite listed in the Allure environment, by total time
+    private static final int ALLURE_ENVIRONMENT_PHASES = 5;
+
+    private final ThreadLocal<Long> methodStart = new ThreadLocal<>();
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Override
+    public void onStart(ISuite suite) {
+        PhaseTimings.reset();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        String phase = phaseOf(method);
+        if (isTestPhase(phase)) {
+            PhaseTimings.beginPhase(phase);
+        } else {
+            PhaseTimings.endTest();
+        }
+        methodStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Long start = methodStart.get();
+        if (start == null) {
+            return;
+        }
+        methodStart.remove();
+
+        PhaseTimings.record(phaseOf(method), System.nanoTime() - start);
+        if (method.isTestMethod()) {
+            ITestNGMethod testMethod = method.getTestMethod();
+            PhaseTimings.describeTest(testMethod.getRealClass().getSimpleName() + "." + testMethod.getMethodName(),
+                    statusOf(testResult));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        List<Map<String, Object>> phases = PhaseTimings.summarize();
+        if (phases.isEmpty()) {
+            return;
+        }
+        phases.sort(Comparator.comparingDouble((Map<String, Object> row) -> (Double) row.get("totalMs")).reversed());
+
+        double frameworkMs = totalMs(phases, PhaseTimings.SETUP) + totalMs(phases, PhaseTimings.TEARDOWN);
+        double testMs = totalMs(phases, PhaseTimings.TEST);
+        double overheadPercent = frameworkMs + testMs > 0 ? 100 * frameworkMs / (frameworkMs + testMs) : 0;
+
+        List<Map<String, Object>> tests = new ArrayList<>();
+        for (PhaseTimings.TestTimings test : PhaseTimings.getTests()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("test", test.getName());
+            row.put("status", test.getStatus());
+            row.put("thread", test.getThread());
+            row.put("phasesMs", test.getPhasesMillis());
+            tests.add(row);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suite.getName());
+        report.put("tests", tests.size());
+        report.put("frameworkMs", frameworkMs);
+        report.put("testMs", testMs);
+        report.put("frameworkOverheadPercent", overheadPercent);
+        report.put("phases", phases);
+        report.put("testBreakdown", tests);
+
+        logSummary(suite.getName(), phases, overheadPercent);
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize phase timings", e);
+        }
+        writeReport(suite.getName(), json);
+        addToAllureEnvironment(suite.getName(), phases, overheadPercent);
+    }
+
+    private static String phaseOf(IInvokedMethod method) {
+        if (method.isTestMethod()) {
+            return PhaseTimings.TEST;
+        }
+        ITestNGMethod config = method.getTestMethod();
+        if (config.isBeforeMethodConfiguration()) {
+            return PhaseTimings.SETUP;
+        }
+        if (config.isAfterMethodConfiguration()) {
+            return PhaseTimings.TEARDOWN;
+        }
+        if (config.isBeforeClassConfiguration()) {
+            return "class-setup";
+        }
+        if (config.isAfterClassConfiguration()) {
+            return "class-teardown";
+        }
+        if (config.isBeforeSuiteConfiguration()) {
+            return "suite-setup";
+        }
+        if (config.isAfterSuiteConfiguration()) {
+            return "suite-teardown";
+        }
+        return "configuration";
+    }
+
+    private static boolean isTestPhase(String phase) {
+        return phase.equals(PhaseTimings.SETUP) || phase.equals(PhaseTimings.TEST) || phase.equals(PhaseTimings.TEARDOWN);
+    }
+
+    private static String statusOf(ITestResult testResult) {
+        switch (testResult.getStatus()) {
+            case ITestResult.SUCCESS:
+                return "passed";
+            case ITestResult.FAILURE:
+                return "failed";
+            case ITestResult.SKIP:
+                return "skipped";
+            default:
+                return "unknown";
+        }
+    }
+
+    private static double totalMs(List<Map<String, Object>> phases, String phase) {
+        return phases.stream()
+                .filter(row -> phase.equals(row.get("phase")))
+                .mapToDouble(row -> (Double) row.get("totalMs"))
+                .sum();
+    }
+
+    private static void logSummary(String suiteName, List<Map<String, Object>> phases, double overheadPercent) {
+        StringBuilder table = new StringBuilder(String.format("%n%-24s %8s %10s %9s %9s %9s %9s",
+                "Phase", "Count", "Total ms", "p50 ms", "p95 ms", "p99 ms", "Max ms"));
+        for (Map<String, Object> row : phases) {
+            table.append(String.format("%n%-24s %8d %10.1f %9.1f %9.1f %9.1f %9.1f",
+                    row.get("phase"), row.get("count"), row.get("totalMs"),
+                    row.get("p50Ms"), row.get("p95Ms"), row.get("p99Ms"), row.get("maxMs")));
+        }
+        logger.info("Phase timings for suite '{}' (framework overhead {}% of test time):{}",
+                suiteName, String.format("%.1f", overheadPercent), table);
+    }
+
+    private static void writeReport(String suiteName, byte[] json) {
+        Path report = Paths.get(System.getProperty(REPORT_DIRECTORY_PROPERTY, "target"),
+                "test-phases-" + suiteName.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+        try {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            Files.write(report, json);
+            logger.info("Phase timings written to {}", report);
+        } catch (IOException e) {
+            logger.warn("Could not write phase timings to {}: {}", report, e.getMessage());
+        }
+    }
+
+    /**
+     * Summarize the suite in the Allure report's Environment section. Allure attachments need a test to
+     * belong to, and a made-up test would skew the report's test count and pass rate.
+     */
+    private static void addToAllureEnvironment(String suiteName, List<Map<String, Object>> phases,
+                                               double overheadPercent) {
+        Path resultsDirectory = Paths.get(PropertiesUtils.loadAllureProperties()
+                .getProperty("allure.results.directory", "allure-results"));
+        Path environmentFile = resultsDirectory.resolve("environment.properties");
+
+        // Parallel suites finish concurrently and share the file
+        synchronized (PhaseTimingListener.class) {
+            try {
+                Properties environment = new Properties();
+                if (Files.exists(environmentFile)) {
+                    try (InputStream in = Files.newInputStream(environmentFile)) {
+                        environment.load(in);
+                    }
+                }
+                String suffix = " (" + suiteName + ")";
+                environment.setProperty("Framework overhead" + suffix, String.format("%.1f%% of test time", overheadPercent));
+                phases.stream().limit(ALLURE_ENVIRONMENT_PHASES).forEach(row -> environment.setProperty(
+                        "Phase " + row.get("phase") + suffix, String.format("total %.0f ms, p95 %.1f ms",
+                                row.get("totalMs"), row.get("p95Ms"))));
+
+                Files.createDirectories(resultsDirectory);
+                try (OutputStream out = Files.newOutputStream(environmentFile)) {
+                    environment.store(out, null);
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not add phase timings to the Allure environment: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.enterprise.automation.reporting;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-phase timings of test execution, collected by {@link PhaseTimingListener}
+ *
+ * Features:
+ * - Framework code times sub-phases with PhaseTimings.time("driver.launch", () -> ...), or start()/close()
+ *   where the work does not fit in a lambda
+ * - Each phase is added to the running test on the current thread and to a suite-wide timer
+ * - p50/p95/p99 per phase across the suite from Micrometer's HdrHistogram-backed percentiles
+ * - Phases timed outside a test, e.g. async launches on launcher threads, only count towards the suite totals
+ *
+ * Static because TestNG creates its listeners outside the Spring context.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public final class PhaseTimings {
+
+    public static final String SETUP = "setup";
+    public static final String TEST = "test";
+    public static final String TEARDOWN = "teardown";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private static volatile MeterRegistry registry = new SimpleMeterRegistry();
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<TestTimings> currentTest = new ThreadLocal<>();
+    // Tests still open on some thread, so the suite report can include them
+    private static final Set<TestTimings> openTests = ConcurrentHashMap.newKeySet();
+    private static final List<TestTimings> finishedTests = Collections.synchronizedList(new ArrayList<>());
+
+    private PhaseTimings() {
+    }
+
+    /**
+     * Timed phase; closing it records the elapsed time
+     */
+    public static final class Phase implements AutoCloseable {
+
+        private final String name;
+        private final long start = System.nanoTime();
+        private boolean closed;
+
+        private Phase(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                record(name, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Phase durations of one test method, including its @BeforeMethod and @AfterMethod
+     */
+    public static final class TestTimings {
+
+        private final String thread = Thread.currentThread().getName();
+        private final Map<String, Long> phases = new LinkedHashMap<>();
+        private volatile String name;
+        private volatile String status;
+
+        private synchronized void add(String phase, long nanos) {
+            phases.merge(phase, nanos, Long::sum);
+        }
+
+        private synchronized boolean has(String phase) {
+            return phases.containsKey(phase);
+        }
+
+        /**
+         * Get the test's phases in milliseconds, in the order they first ran
+         */
+        public synchronized Map<String, Double> getPhasesMillis() {
+            Map<String, Double> millis = new LinkedHashMap<>();
+            phases.forEach((phase, nanos) -> millis.put(phase, nanos / 1_000_000.0));
+            return millis;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+    }
+
+    /**
+     * Start timing a phase
+     *
+     * @param name Phase name, e.g. driver.launch
+     * @return Phase to close when the work is done
+     */
+    public static Phase start(String name) {
+        return new Phase(name);
+    }
+
+    /**
+     * Time a phase around the given work
+     *
+     * @param name Phase name, e.g. driver.launch
+     * @param work Work to time; its exceptions propagate after the phase is recorded
+     */
+    public static void time(String name, Runnable work) {
+        Phase phase = start(name);
+        try {
+            work.run();
+        } finally {
+            phase.close();
+        }
+    }
+
+    /**
+     * Time a phase around the given work and return its result
+     *
+     * @param name Phase name, e.g. driver.borrow
+     * @param work Work to time; its exceptions propagate after the phase is recorded
+     * @return Result of the work
+     */
+    public static <T> T time(String name, Supplier<T> work) {
+        Phase phase = start(name);
+        try {
+            return work.get();
+        } finally {
+            phase.close();
+        }
+    }
+
+    /**
+     * Record a phase that was timed elsewhere
+     *
+     * @param name Phase name
+     * @param nanos Duration in nanoseconds
+     */
+    public static void record(String name, long nanos) {
+        timers.computeIfAbsent(name, PhaseTimings::newTimer).record(nanos, TimeUnit.NANOSECONDS);
+        TestTimings test = currentTest.get();
+        if (test != null) {
+            test.add(name, nanos);
+        }
+    }
+
+    /**
+     * Get one row per phase with count, total, max and percentiles in milliseconds
+     */
+    public static List<Map<String, Object>> summarize() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        timers.forEach((phase, timer) -> {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("phase", phase);
+            row.put("count", snapshot.count());
+            row.put("totalMs", snapshot.total(TimeUnit.MILLISECONDS));
+            row.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+            row.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                row.put("p" + Math.round(percentile.percentile() * 100) + "Ms", percentile.value(TimeUnit.MILLISECONDS));
+            }
+            rows.add(row);
+        });
+        return rows;
+    }
+
+    /**
+     * Get all tests seen since the last reset, finished or not
+     */
+    public static List<TestTimings> getTests() {
+        List<TestTimings> tests;
+        synchronized (finishedTests) {
+            tests = new ArrayList<>(finishedTests);
+        }
+        tests.addAll(openTests);
+        return tests;
+    }
+
+    /**
+     * Start a new test on the current thread when a setup or test phase follows a test body or teardown.
+     * A test runs all its @BeforeMethods, the test and all its @AfterMethods in order on one thread.
+     */
+    static void beginPhase(String phase) {
+        TestTimings test = currentTest.get();
+        // A test no longer open was finished elsewhere or dropped by reset()
+        boolean newTest = test == null || !openTests.contains(test)
+                || (!phase.equals(TEARDOWN) && (test.has(TEST) || test.has(TEARDOWN)));
+        if (newTest) {
+            finishTest(test);
+            test = new TestTimings();
+            currentTest.set(test);
+            openTests.add(test);
+        }
+    }
+
+    /**
+     * Finish the current thread's test, so class and suite level phases are not added to it
+     */
+    static void endTest() {
+        finishTest(currentTest.get());
+        currentTest.remove();
+    }
+
+    static void describeTest(String name, String status) {
+        TestTimings test = currentTest.get();
+        if (test != null) {
+            test.name = name;
+            test.status = status;
+        }
+    }
+
+    /**
+     * Clear all timings, e.g. at the start of a suite
+     */
+    static void reset() {
+        registry = new SimpleMeterRegistry();
+        timers.clear();
+        openTests.clear();
+        finishedTests.clear();
+        currentTest.remove();
+    }
+
+    private static void finishTest(TestTimings test) {
+        if (test != null && openTests.remove(test)) {
+            finishedTests.add(test);
+        }
+    }
+
+    private static Timer newTimer(String phase) {
+        return Timer.builder("test.phase")
+                .tag("phase", phase)
+                .publishPercentiles(PERCENTILES)
+                // Keep percentiles for the whole suite instead of Micrometer's rolling window
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(registry);
+    }
+}
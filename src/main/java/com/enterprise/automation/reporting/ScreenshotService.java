@@ -0,0 +1,167 @@
+package com.enterprise.automation.reporting;
+
+import com.enterprise.automation.config.FrameworkConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Screenshot capture for Allure reports
+ *
+ * Features:
+ * - Only the browser round trip happens on the test thread
+ * - Decoding, optional JPEG compression and writing run on a bounded background pipeline
+ * - Back-pressure: when the queue is full the test thread does the work itself instead of piling up memory
+ * - Pending screenshots are flushed before the JVM exits
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class ScreenshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotService.class);
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    private ThreadPoolExecutor pipeline;
+
+    @PostConstruct
+    public void start() {
+        int workers = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger threadCount = new AtomicInteger();
+
+        pipeline = new ThreadPoolExecutor(workers, workers, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(getReportingConfig().getScreenshotQueueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        pipeline.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Take a screenshot and attach it to the running Allure test or step.
+     * Returns as soon as the browser has answered; the attachment is written in the background.
+     *
+     * @param driver Driver to capture
+     * @param name Attachment name shown in the report
+     */
+    public void capture(WebDriver driver, String name) {
+        if (!getReportingConfig().isScreenshots() || !(driver instanceof TakesScreenshot)) {
+            return;
+        }
+
+        String base64;
+        try {
+            // The wire format is base64 already; decoding it is left to the pipeline
+            base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        } catch (RuntimeException e) {
+            logger.warn("Could not capture screenshot '{}': {}", name, e.getMessage());
+            return;
+        }
+
+        boolean jpeg = "jpg".equals(getReportingConfig().getScreenshotFormat());
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        // Must run on the test thread: Allure links the attachment to this thread's current test
+        String source = lifecycle.prepareAttachment(name, jpeg ? "image/jpeg" : "image/png", jpeg ? "jpg" : "png");
+
+        pipeline.execute(() -> write(lifecycle, source, base64, jpeg));
+    }
+
+    /**
+     * Take a screenshot if screenshot-on-failure is enabled
+     *
+     * @param driver Driver to capture
+     * @param testName Name of the failed test
+     */
+    public void captureOnFailure(WebDriver driver, String testName) {
+        if (getReportingConfig().isScreenshotOnFailure()) {
+            capture(driver, "Failure screenshot - " + testName);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pipeline.shutdown();
+        try {
+            if (!pipeline.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Gave up waiting for {} pending screenshot(s)", pipeline.getQueue().size());
+                pipeline.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pipeline.shutdownNow();
+        }
+    }
+
+    private void write(AllureLifecycle lifecycle, String source, String base64, boolean jpeg) {
+        try {
+            byte[] png = Base64.getMimeDecoder().decode(base64);
+            byte[] content = jpeg ? toJpeg(png) : png;
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(content));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not write screenshot {}: {}", source, e.getMessage());
+        }
+    }
+
+    private static byte[] toJpeg(byte[] png) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            throw new IOException("Screenshot is not a readable PNG");
+        }
+
+        // JPEG has no alpha channel, so draw onto an RGB canvas first
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 2);
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private FrameworkConfig.Reporting getReportingConfig() {
+        return frameworkConfig.getReporting();
+    }
+}
@@ -0,0 +1,362 @@
+package com.enterprise.automation.reporting;
+
+import com.enterprise.automation.config.FrameworkConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rolling video capture of browser sessions for failed tests
+ *
+ * Features:
+ * - Chrome and Edge stream frames through the CDP screencast; other browsers fall back to periodic screenshots
+ * - Frames stay compressed in a per-session ring buffer of reporting.video-max-frames
+ * - Nothing is decoded or written for passing tests
+ * - On failure the buffer is encoded into an animated GIF off the test thread and attached to Allure
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class SessionVideoRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionVideoRecorder.class);
+
+    private static final int MAX_FRAME_WIDTH = 1024;
+    private static final int MAX_FRAME_HEIGHT = 768;
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    // Active recordings by driver instance
+    private final Map<WebDriver, Recording> recordings = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    // DevTools connections that already carry our frame listener; DevTools has no way to remove one listener
+    private final Set<DevTools> screencastListeners = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private final Map<DevTools, Recording> screencastTargets = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService sampler;
+    private ThreadPoolExecutor encoder;
+
+    private record Frame(String base64, long timestamp) {
+    }
+
+    private static final class Recording {
+        private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+        private final int maxFrames;
+        private DevTools devTools;
+        private ScheduledFuture<?> sampling;
+
+        Recording(int maxFrames) {
+            this.maxFrames = maxFrames;
+        }
+
+        synchronized void add(Frame frame) {
+            if (frames.size() == maxFrames) {
+                frames.removeFirst();
+            }
+            frames.addLast(frame);
+        }
+
+        synchronized List<Frame> snapshot() {
+            return new ArrayList<>(frames);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger samplerCount = new AtomicInteger();
+        sampler = Executors.newScheduledThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), runnable -> {
+            Thread thread = new Thread(runnable, "video-sampler-" + samplerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Encoding is rare and heavy; one thread with a short queue, then the failing test thread helps out
+        encoder = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(4), runnable -> {
+            Thread thread = new Thread(runnable, "video-encoder");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        encoder.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Start recording a session if reporting.video-recording is enabled
+     *
+     * @param driver Session to record
+     */
+    public void start(WebDriver driver) {
+        if (!getReportingConfig().isVideoRecording() || driver == null || recordings.containsKey(driver)) {
+            return;
+        }
+
+        Recording recording = new Recording(getReportingConfig().getVideoMaxFrames());
+        if (!startScreencast(driver, recording)) {
+            startSampling(driver, recording);
+        }
+        recordings.put(driver, recording);
+    }
+
+    /**
+     * Stop recording a session. The frames are only encoded and attached when the test failed.
+     *
+     * @param driver Recorded session
+     * @param failed Whether the test failed
+     * @param testName Name used for the attachment
+     */
+    public void stop(WebDriver driver, boolean failed, String testName) {
+        Recording recording = driver != null ? recordings.remove(driver) : null;
+        if (recording == null) {
+            return;
+        }
+
+        if (recording.sampling != null) {
+            recording.sampling.cancel(false);
+        }
+        if (recording.devTools != null) {
+            screencastTargets.remove(recording.devTools, recording);
+            try {
+                recording.devTools.send(new Command<Void>("Page.stopScreencast", Map.of()));
+            } catch (RuntimeException e) {
+                logger.debug("Could not stop screencast: {}", e.getMessage());
+            }
+        }
+
+        if (!failed) {
+            return;
+        }
+
+        List<Frame> frames = recording.snapshot();
+        if (frames.isEmpty()) {
+            return;
+        }
+
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        // Must run on the test thread: Allure links the attachment to this thread's current test
+        String source = lifecycle.prepareAttachment("Video - " + testName, "image/gif", "gif");
+        encoder.execute(() -> {
+            try {
+                lifecycle.writeAttachment(source, new ByteArrayInputStream(encodeGif(frames)));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not encode video for {}: {}", testName, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sampler.shutdownNow();
+        encoder.shutdown();
+        try {
+            encoder.awaitTermination(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean startScreencast(WebDriver driver, Recording recording) {
+        if (!(driver instanceof HasDevTools)) {
+            return false;
+        }
+
+        try {
+            DevTools devTools = ((HasDevTools) driver).maybeGetDevTools().orElse(null);
+            if (devTools == null) {
+                return false;
+            }
+            devTools.createSessionIfThereIsNotOne();
+
+            if (screencastListeners.add(devTools)) {
+                devTools.addListener(new Event<Map<String, Object>>("Page.screencastFrame", input -> input.read(Json.MAP_TYPE)),
+                        frame -> onScreencastFrame(devTools, frame));
+            }
+            screencastTargets.put(devTools, recording);
+            recording.devTools = devTools;
+
+            devTools.send(new Command<Void>("Page.startScreencast", Map.of(
+                    "format", "jpeg",
+                    "quality", 60,
+                    "maxWidth", MAX_FRAME_WIDTH,
+                    "maxHeight", MAX_FRAME_HEIGHT)));
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("CDP screencast unavailable, falling back to screenshots: {}", e.getMessage());
+            if (recording.devTools != null) {
+                screencastTargets.remove(recording.devTools, recording);
+                recording.devTools = null;
+            }
+            return false;
+        }
+    }
+
+    private void onScreencastFrame(DevTools devTools, Map<String, Object> frame) {
+        Object sessionId = frame.get("sessionId");
+        // The browser sends the next frame only after this one is acknowledged. Fire and forget:
+        // waiting for a reply here would block the thread that delivers CDP responses.
+        devTools.send(new Command<Void>("Page.screencastFrameAck", Map.of("sessionId", sessionId)).doesNotSendResponse());
+
+        Recording recording = screencastTargets.get(devTools);
+        if (recording != null && frame.get("data") instanceof String data) {
+            recording.add(new Frame(data, System.currentTimeMillis()));
+        }
+    }
+
+    private void startSampling(WebDriver driver, Recording recording) {
+        // Bypass the command listeners: samples are not test commands, must not skew the screenshot
+        // timings and must not keep an abandoned session from being idle-reaped
+        WebDriver rawDriver = driver;
+        while (rawDriver instanceof WrapsDriver) {
+            rawDriver = ((WrapsDriver) rawDriver).getWrappedDriver();
+        }
+        if (!(rawDriver instanceof TakesScreenshot)) {
+            return;
+        }
+        TakesScreenshot screenshots = (TakesScreenshot) rawDriver;
+
+        // The driver server runs one command per session at a time, so a sample only waits for the test's
+        // current command; the client side (HttpCommandExecutor) is safe to share between threads
+        long interval = getReportingConfig().getVideoFrameInterval();
+        recording.sampling = sampler.scheduleWithFixedDelay(() -> {
+            try {
+                recording.add(new Frame(screenshots.getScreenshotAs(OutputType.BASE64),
+                        System.currentTimeMillis()));
+            } catch (RuntimeException e) {
+                logger.debug("Skipped video frame: {}", e.getMessage());
+            }
+        }, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private byte[] encodeGif(List<Frame> frames) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.prepareWriteSequence(null);
+
+            for (int i = 0; i < frames.size(); i++) {
+                BufferedImage image = decode(frames.get(i).base64());
+                if (image == null) {
+                    continue;
+                }
+                long delayMs = i + 1 < frames.size()
+                        ? frames.get(i + 1).timestamp() - frames.get(i).timestamp()
+                        : getReportingConfig().getVideoFrameInterval();
+                writer.writeToSequence(new IIOImage(image, null, frameMetadata(writer, image, delayMs, i == 0)), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(String base64) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(Base64.getMimeDecoder().decode(base64)));
+        if (source == null) {
+            return null;
+        }
+
+        double scale = Math.min(1.0, Math.min((double) MAX_FRAME_WIDTH / source.getWidth(),
+                (double) MAX_FRAME_HEIGHT / source.getHeight()));
+        int width = (int) Math.max(1, source.getWidth() * scale);
+        int height = (int) Math.max(1, source.getHeight() * scale);
+
+        BufferedImage rgb = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return rgb;
+    }
+
+    private static IIOMetadata frameMetadata(ImageWriter writer, BufferedImage image, long delayMs, boolean first)
+            throws IOException {
+        IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), null);
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+
+        IIOMetadataNode control = childNode(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        // GIF delays are in hundredths of a second
+        control.setAttribute("delayTime", String.valueOf(Math.max(2, Math.min(delayMs / 10, 500))));
+        control.setAttribute("transparentColorIndex", "0");
+
+        if (first) {
+            // Loop forever
+            IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+            loop.setAttribute("applicationID", "NETSCAPE");
+            loop.setAttribute("authenticationCode", "2.0");
+            loop.setUserObject(new byte[] {0x1, 0x0, 0x0});
+            childNode(root, "ApplicationExtensions").appendChild(loop);
+        }
+
+        metadata.setFromTree(format, root);
+        return metadata;
+    }
+
+    private static IIOMetadataNode childNode(IIOMetadataNode root, String name) {
+        for (int i = 0; i < root.getLength(); i++) {
+            if (root.item(i).getNodeName().equalsIgnoreCase(name)) {
+                return (IIOMetadataNode) root.item(i);
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        root.appendChild(node);
+        return node;
+    }
+
+    private FrameworkConfig.Reporting getReportingConfig() {
+        return frameworkConfig.getReporting();
+    }
+}
@@ -0,0 +1,122 @@
+package com.enterprise.automation.web;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Base class for page objects
+ *
+ * Features:
+ * - WebElement fields annotated with @FindBy, @FindBys or @FindAll become lazy handles: the element is
+ *   looked up on first use and cached, so repeated calls cost one command instead of a find plus the command
+ * - Cached elements are dropped after the driver navigates or switches window/frame, and re-found
+ *   once when a call hits a StaleElementReferenceException
+ * - List&lt;WebElement&gt; fields are looked up again on every use, as with Selenium's PageFactory
+ * - {@link #element} and {@link #elements} for locators built at runtime, {@link #batch} for reading many elements at once
+ *
+ * Usage:
+ *   public class LoginPage extends BasePage {
+ *       &#64;FindBy(id = "username") private WebElement username;
+ *       &#64;FindBy(css = "button[type=submit]") private WebElement submit;
+ *
+ *       public LoginPage(WebDriver driver) { super(driver); }
+ *
+ *       public void login(String user) { username.sendKeys(user); submit.click(); }
+ *   }
+ *
+ * Fields are set in this constructor; a field initializer in the subclass (even "= null") runs afterwards
+ * and overwrites the handle. Navigation tracking needs automation.web.monitoring.enabled; without it only
+ * the stale-element retry applies.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public abstract class BasePage {
+
+    protected final WebDriver driver;
+
+    protected BasePage(WebDriver driver) {
+        this.driver = driver;
+        PageFactory.initElements(new LazyFieldDecorator(driver), this);
+    }
+
+    /**
+     * Get a lazy handle for the first element matching a locator
+     */
+    protected WebElement element(By locator) {
+        return LazyElement.create(driver, driver, locator);
+    }
+
+    /**
+     * Get a lazy handle for the first element matching a locator inside another element
+     */
+    protected WebElement element(WebElement parent, By locator) {
+        return LazyElement.create(driver, parent, locator);
+    }
+
+    /**
+     * Find all elements matching a locator now; the list is not kept up to date
+     */
+    protected List<WebElement> elements(By locator) {
+        return driver.findElements(locator);
+    }
+
+    /**
+     * Start a batch read against this page's driver
+     */
+    protected BatchQuery batch() {
+        return BatchQuery.on(driver);
+    }
+
+    /**
+     * Decorates annotated WebElement fields with lazy handles and List&lt;WebElement&gt; fields with
+     * Selenium's locating list; everything else is left alone
+     */
+    private static final class LazyFieldDecorator implements FieldDecorator {
+
+        private final WebDriver driver;
+
+        private LazyFieldDecorator(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        public Object decorate(ClassLoader loader, Field field) {
+            if (!isAnnotated(field)) {
+                return null;
+            }
+            if (field.getType() == WebElement.class) {
+                return LazyElement.create(driver, driver, new Annotations(field).buildBy());
+            }
+            if (isWebElementList(field)) {
+                return Proxy.newProxyInstance(loader, new Class<?>[]{List.class},
+                        new LocatingElementListHandler(new DefaultElementLocator(driver, field)));
+            }
+            return null;
+        }
+
+        private static boolean isAnnotated(Field field) {
+            return field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                    || field.isAnnotationPresent(FindAll.class);
+        }
+
+        private static boolean isWebElementList(Field field) {
+            return field.getType() == List.class && field.getGenericType() instanceof ParameterizedType
+                    && ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0] == WebElement.class;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.enterprise.automation.web;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the state of several elements in one executeScript round trip
+ *
+ * Features:
+ * - Any number of locators, each with its own reads: text, displayed, rect, attributes and DOM properties
+ * - First match or all matches per locator, plus the match count
+ * - Structured result keyed by caller-chosen names; missing elements are reported, not thrown
+ *
+ * Usage:
+ *   BatchQuery.Result page = BatchQuery.on(driver)
+ *           .select("title", By.cssSelector("h1")).text()
+ *           .select("email", By.id("email")).attributes("value", "aria-invalid").displayed()
+ *           .selectAll("rows", By.cssSelector("table tr")).text()
+ *           .execute();
+ *   assertEquals(page.get("title").getText(), "Login");
+ *
+ * Text is the element's rendered innerText, which matches WebElement.getText() for visible elements.
+ * Displayed uses the browser's checkVisibility(), close to but not identical with Selenium's isDisplayed() atom.
+ * Reads are not retried; use SmartWait first if the page is still settling.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+public final class BatchQuery {
+
+    // arguments[0]: list of {using, value, all, text, displayed, rect, attributes, properties}
+    private static final String QUERY_SCRIPT =
+            "function find(using, value) {"
+            + "  switch (using) {"
+            + "    case 'css selector': return Array.from(document.querySelectorAll(value));"
+            + "    case 'id': return Array.from(document.querySelectorAll('#' + CSS.escape(value)));"
+            + "    case 'name': return Array.from(document.getElementsByName(value));"
+            + "    case 'class name': return Array.from(document.getElementsByClassName(value));"
+            + "    case 'tag name': return Array.from(document.getElementsByTagName(value));"
+            + "    case 'xpath':"
+            + "      var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "      var nodes = [];"
+            + "      for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }"
+            + "      return nodes;"
+            + "    case 'link text':"
+            + "      return Array.from(document.querySelectorAll('a')).filter(function (a) { return a.innerText.trim() === value; });"
+            + "    case 'partial link text':"
+            + "      return Array.from(document.querySelectorAll('a')).filter(function (a) { return a.innerText.indexOf(value) >= 0; });"
+            + "  }"
+            + "  throw new Error('Unsupported locator strategy: ' + using);"
+            + "}"
+            + "function plain(value) {"
+            + "  var type = typeof value;"
+            + "  return value === null || value === undefined || type === 'string' || type === 'number' || type === 'boolean'"
+            + "      ? value : String(value);"
+            + "}"
+            + "function read(element, query) {"
+            + "  var state = {};"
+            + "  if (query.text) { state.text = (element.innerText || '').trim(); }"
+            + "  if (query.displayed) {"
+            + "    state.displayed = element.checkVisibility"
+            + "        ? element.checkVisibility({checkOpacity: true, checkVisibilityCSS: true})"
+            + "        : element.getClientRects().length > 0 && getComputedStyle(element).visibility !== 'hidden';"
+            + "  }"
+            + "  if (query.rect) {"
+            + "    var box = element.getBoundingClientRect();"
+            + "    state.rect = {x: box.left + window.scrollX, y: box.top + window.scrollY, width: box.width, height: box.height};"
+            + "  }"
+            + "  state.attributes = {};"
+            + "  query.attributes.forEach(function (name) { state.attributes[name] = element.getAttribute(name); });"
+            + "  state.properties = {};"
+            + "  query.properties.forEach(function (name) { state.properties[name] = plain(element[name]); });"
+            + "  return state;"
+            + "}"
+            + "return arguments[0].map(function (query) {"
+            + "  var matches = find(query.using, query.value);"
+            + "  return {count: matches.length, elements: (query.all ? matches : matches.slice(0, 1)).map("
+            + "      function (element) { return read(element, query); })};"
+            + "});";
+
+    private final WebDriver driver;
+    private final Map<String, Selection> selections = new LinkedHashMap<>();
+    private Selection current;
+
+    private BatchQuery(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Start a batch against the given driver
+     */
+    public static BatchQuery on(WebDriver driver) {
+        return new BatchQuery(driver);
+    }
+
+    /**
+     * Add a locator whose first match is read; following read methods apply to it
+     *
+     * @param key Name to look the result up by
+     * @param locator Standard Selenium locator
+     */
+    public BatchQuery select(String key, By locator) {
+        return add(key, locator, false);
+    }
+
+    /**
+     * Add a locator whose matches are all read; following read methods apply to it
+     *
+     * @param key Name to look the result up by
+     * @param locator Standard Selenium locator
+     */
+    public BatchQuery selectAll(String key, By locator) {
+        return add(key, locator, true);
+    }
+
+    public BatchQuery text() {
+        current().text = true;
+        return this;
+    }
+
+    public BatchQuery displayed() {
+        current().displayed = true;
+        return this;
+    }
+
+    public BatchQuery rect() {
+        current().rect = true;
+        return this;
+    }
+
+    /**
+     * Read HTML attributes, as Element.getAttribute (WebElement.getDomAttribute)
+     */
+    public BatchQuery attributes(String... names) {
+        Collections.addAll(current().attributes, names);
+        return this;
+    }
+
+    /**
+     * Read DOM properties, e.g. value or checked, as WebElement.getDomProperty
+     */
+    public BatchQuery properties(String... names) {
+        Collections.addAll(current().properties, names);
+        return this;
+    }
+
+    /**
+     * Run all reads in one executeScript call
+     *
+     * @return States keyed by the names given to select/selectAll
+     */
+    @SuppressWarnings("unchecked")
+    public Result execute() {
+        List<Map<String, Object>> queries = new ArrayList<>(selections.size());
+        for (Selection selection : selections.values()) {
+            queries.add(selection.toScriptArgument());
+        }
+
+        List<Map<String, Object>> answers =
+                (List<Map<String, Object>>) ((JavascriptExecutor) driver).executeScript(QUERY_SCRIPT, queries);
+
+        Map<String, List<ElementState>> states = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        int index = 0;
+        for (String key : selections.keySet()) {
+            Map<String, Object> answer = answers.get(index++);
+            List<ElementState> elements = new ArrayList<>();
+            for (Map<String, Object> element : (List<Map<String, Object>>) answer.get("elements")) {
+                elements.add(new ElementState(element));
+            }
+            states.put(key, elements);
+            counts.put(key, ((Number) answer.get("count")).intValue());
+        }
+        return new Result(states, counts);
+    }
+
+    private BatchQuery add(String key, By locator, boolean all) {
+        if (selections.containsKey(key)) {
+            throw new IllegalArgumentException("Duplicate batch query key: " + key);
+        }
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Batch queries support the standard By locators only, not " + locator);
+        }
+        current = new Selection(((By.Remotable) locator).getRemoteParameters(), all);
+        selections.put(key, current);
+        return this;
+    }
+
+    private Selection current() {
+        if (current == null) {
+            throw new IllegalStateException("Call select or selectAll before choosing what to read");
+        }
+        return current;
+    }
+
+    /**
+     * Locator plus the reads requested for it
+     */
+    private static final class Selection {
+        private final By.Remotable.Parameters locator;
+        private final boolean all;
+        private boolean text;
+        private boolean displayed;
+        private boolean rect;
+        private final List<String> attributes = new ArrayList<>();
+        private final List<String> properties = new ArrayList<>();
+
+        private Selection(By.Remotable.Parameters locator, boolean all) {
+            this.locator = locator;
+            this.all = all;
+        }
+
+        private Map<String, Object> toScriptArgument() {
+            Map<String, Object> argument = new LinkedHashMap<>();
+            argument.put("using", locator.using());
+            argument.put("value", locator.value());
+            argument.put("all", all);
+            argument.put("text", text);
+            argument.put("displayed", displayed);
+            argument.put("rect", rect);
+            argument.put("attributes", attributes);
+            argument.put("properties", properties);
+            return argument;
+        }
+    }
+
+    /**
+     * States of all selections of one batch
+     */
+    public static final class Result {
+        private final Map<String, List<ElementState>> states;
+        private final Map<String, Integer> counts;
+
+        private Result(Map<String, List<ElementState>> states, Map<String, Integer> counts) {
+            this.states = states;
+            this.counts = counts;
+        }
+
+        /**
+         * Get the state of the first match, or {@link ElementState#MISSING} if nothing matched
+         */
+        public ElementState get(String key) {
+            List<ElementState> elements = getAll(key);
+            return elements.isEmpty() ? ElementState.MISSING : elements.get(0);
+        }
+
+        /**
+         * Get the states of the matches read for a key: all of them for selectAll, at most one for select
+         */
+        public List<ElementState> getAll(String key) {
+            List<ElementState> elements = states.get(key);
+            if (elements == null) {
+                throw new IllegalArgumentException("No batch query key: " + key);
+            }
+            return elements;
+        }
+
+        /**
+         * Get the number of elements the locator matched
+         */
+        public int getCount(String key) {
+            getAll(key);
+            return counts.get(key);
+        }
+    }
+
+    /**
+     * Snapshot of one element at the time the batch ran
+     */
+    public static final class ElementState {
+
+        /**
+         * State of an element that was not found
+         */
+        public static final ElementState MISSING = new ElementState(null);
+
+        private final Map<String, Object> values;
+
+        private ElementState(Map<String, Object> values) {
+            this.values = values;
+        }
+
+        public boolean isPresent() {
+            return values != null;
+        }
+
+        public String getText() {
+            return (String) value("text");
+        }
+
+        public boolean isDisplayed() {
+            return Boolean.TRUE.equals(value("displayed"));
+        }
+
+        @SuppressWarnings("unchecked")
+        public Rectangle getRect() {
+            Map<String, Object> rect = (Map<String, Object>) value("rect");
+            if (rect == null) {
+                return null;
+            }
+            return new Rectangle(toInt(rect.get("x")), toInt(rect.get("y")),
+                    toInt(rect.get("height")), toInt(rect.get("width")));
+        }
+
+        @SuppressWarnings("unchecked")
+        public String getAttribute(String name) {
+            Map<String, Object> attributes = (Map<String, Object>) value("attributes");
+            return attributes == null ? null : (String) attributes.get(name);
+        }
+
+        @SuppressWarnings("unchecked")
+        public Object getProperty(String name) {
+            Map<String, Object> properties = (Map<String, Object>) value("properties");
+            return properties == null ? null : properties.get(name);
+        }
+
+        private Object value(String name) {
+            return values == null ? null : values.get(name);
+        }
+
+        private static int toInt(Object number) {
+            return (int) Math.round(((Number) number).doubleValue());
+        }
+
+        @Override
+        public String toString() {
+            return values == null ? "missing" : values.toString();
+        }
+    }
+}
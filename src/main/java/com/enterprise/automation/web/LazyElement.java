@@ -0,0 +1,102 @@
+package com.enterprise.automation.web;
+
+import com.enterprise.automation.core.NavigationTracker;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Element handle that finds its element on first use and keeps it until it goes stale
+ *
+ * The cached element is dropped when the driver's NavigationTracker reports a new document, or when
+ * a call fails with StaleElementReferenceException; the call is then retried on a fresh lookup.
+ * Lookups go through the driver, so no waiting happens here; wait with SmartWait where a page loads.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+final class LazyElement implements InvocationHandler {
+
+    private static final int STALE_RETRIES = 2;
+
+    private final WebDriver driver;
+    private final SearchContext context;
+    private final By locator;
+
+    private WebElement cached;
+    private long cachedGeneration;
+
+    private LazyElement(WebDriver driver, SearchContext context, By locator) {
+        this.driver = driver;
+        this.context = context;
+        this.locator = locator;
+    }
+
+    /**
+     * Create a lazy handle for the first element matching a locator
+     *
+     * @param driver Driver whose navigations invalidate the cached element
+     * @param context Where to search: the driver, or another (lazy) element
+     * @param locator Element locator
+     */
+    static WebElement create(WebDriver driver, SearchContext context, By locator) {
+        return (WebElement) Proxy.newProxyInstance(LazyElement.class.getClassLoader(),
+                new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class},
+                new LazyElement(driver, context, locator));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "getWrappedElement":
+                return resolve();
+            case "toString":
+                return "Lazy element " + locator;
+            case "hashCode":
+                return resolve().hashCode();
+            case "equals":
+                Object other = args[0] instanceof WrapsElement ? ((WrapsElement) args[0]).getWrappedElement() : args[0];
+                return resolve().equals(other);
+            default:
+                break;
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            WebElement element = resolve();
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (!(cause instanceof StaleElementReferenceException) || attempt >= STALE_RETRIES) {
+                    throw cause;
+                }
+                invalidate(element);
+            }
+        }
+    }
+
+    private synchronized WebElement resolve() {
+        long generation = NavigationTracker.getGeneration(driver);
+        if (cached == null || generation != cachedGeneration) {
+            cached = context.findElement(locator);
+            cachedGeneration = generation;
+        }
+        return cached;
+    }
+
+    private synchronized void invalidate(WebElement stale) {
+        if (cached == stale) {
+            cached = null;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.enterprise.automation.web;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Explicit wait engine for Enterprise Automation Framework
+ *
+ * Features:
+ * - Adaptive polling: first re-check after automation.web.wait.initial-poll-millis, doubling up to max-poll-millis
+ * - Between polls the browser blocks on a MutationObserver, so a wait returns as soon as the DOM changes
+ *   rather than when the next poll is due
+ * - Timeout profiles (automation.web.wait.profiles), e.g. "slow" for a report that renders for a minute
+ *   or "absent" for checks that an element is gone
+ * - {@link #isPresent} for immediate presence checks that never wait
+ *
+ * Relies on automation.web.implicit-wait being 0; with an implicit wait every failed lookup inside a
+ * poll blocks for the implicit timeout.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@Component
+public class SmartWait {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmartWait.class);
+
+    public static final String DEFAULT_PROFILE = "default";
+
+    // Async script: resolves true on the first DOM mutation (batched with the rest of the current task),
+    // false once the poll interval has passed without one
+    private static final String AWAIT_MUTATION_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+            + "var finished = false, timer;"
+            + "var observer = new MutationObserver(function () { finish(true); });"
+            + "function finish(changed) {"
+            + "  if (finished) { return; }"
+            + "  finished = true;"
+            + "  observer.disconnect();"
+            + "  clearTimeout(timer);"
+            + "  setTimeout(function () { done(changed); }, 0);"
+            + "}"
+            + "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "timer = setTimeout(function () { finish(false); }, arguments[0]);";
+
+    @Autowired
+    private FrameworkConfig frameworkConfig;
+
+    /**
+     * Wait until an element is present in the DOM
+     */
+    public WebElement present(WebDriver driver, By locator) {
+        return present(driver, locator, DEFAULT_PROFILE);
+    }
+
+    public WebElement present(WebDriver driver, By locator, String profile) {
+        return until(driver, ExpectedConditions.presenceOfElementLocated(locator), profile);
+    }
+
+    /**
+     * Wait until an element is present and displayed
+     */
+    public WebElement visible(WebDriver driver, By locator) {
+        return visible(driver, locator, DEFAULT_PROFILE);
+    }
+
+    public WebElement visible(WebDriver driver, By locator, String profile) {
+        return until(driver, ExpectedConditions.visibilityOfElementLocated(locator), profile);
+    }
+
+    /**
+     * Wait until an element is displayed and enabled
+     */
+    public WebElement clickable(WebDriver driver, By locator) {
+        return clickable(driver, locator, DEFAULT_PROFILE);
+    }
+
+    public WebElement clickable(WebDriver driver, By locator, String profile) {
+        return until(driver, ExpectedConditions.elementToBeClickable(locator), profile);
+    }
+
+    /**
+     * Wait until no displayed element matches, e.g. for a spinner to go away
+     *
+     * @return true once gone, false if still displayed when the profile's timeout ran out
+     */
+    public boolean gone(WebDriver driver, By locator, String profile) {
+        try {
+            return until(driver, ExpectedConditions.invisibilityOfElementLocated(locator), profile);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Check whether an element is in the DOM right now, without waiting
+     */
+    public boolean isPresent(WebDriver driver, By locator) {
+        return !driver.findElements(locator).isEmpty();
+    }
+
+    /**
+     * Wait until a condition returns something other than null or false
+     *
+     * @param driver Driver the condition runs against
+     * @param condition Condition, e.g. one of Selenium's ExpectedConditions
+     * @param profile Timeout profile name (automation.web.wait.profiles)
+     * @return Condition's first non-null, non-false result
+     * @throws TimeoutException if the condition is not met within the profile's timeout
+     */
+    public <T> T until(WebDriver driver, Function<? super WebDriver, T> condition, String profile) {
+        return until(driver, condition, getTimeout(profile));
+    }
+
+    /**
+     * Wait until a condition returns something other than null or false
+     *
+     * @param driver Driver the condition runs against
+     * @param condition Condition, e.g. one of Selenium's ExpectedConditions
+     * @param timeout Maximum time to wait
+     * @return Condition's first non-null, non-false result
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(WebDriver driver, Function<? super WebDriver, T> condition, Duration timeout) {
+        FrameworkConfig.Web.Wait waitConfig = frameworkConfig.getWeb().getWait();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollMillis = waitConfig.getInitialPollMillis();
+        boolean observe = waitConfig.isMutationObserver() && driver instanceof JavascriptExecutor;
+        int polls = 0;
+        RuntimeException lastError = null;
+
+        while (true) {
+            polls++;
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                throw new TimeoutException(String.format("Expected condition failed: %s (tried %d times over %d ms)",
+                        condition, polls, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)), lastError);
+            }
+
+            long pause = Math.min(pollMillis, remainingMillis);
+            observe = observe && awaitMutation((JavascriptExecutor) driver, pause);
+            if (!observe) {
+                sleep(pause);
+            }
+            pollMillis = Math.min(pollMillis * 2, waitConfig.getMaxPollMillis());
+        }
+    }
+
+    /**
+     * Get a profile's timeout; unknown profiles and "default" use automation.web.timeout
+     */
+    public Duration getTimeout(String profile) {
+        Integer seconds = frameworkConfig.getWeb().getWait().getProfiles().get(profile);
+        if (seconds == null) {
+            if (!DEFAULT_PROFILE.equals(profile)) {
+                logger.warn("Unknown wait profile '{}', using the default timeout", profile);
+            }
+            seconds = frameworkConfig.getWeb().getTimeout();
+        }
+        return Duration.ofSeconds(seconds);
+    }
+
+    /**
+     * Block in the browser until the DOM changes or the pause has passed
+     *
+     * @return false if the page can't run the observer (e.g. it is navigating), so the caller sleeps instead
+     */
+    private boolean awaitMutation(JavascriptExecutor driver, long pauseMillis) {
+        try {
+            // Anything but a boolean means the script did not actually wait
+            return driver.executeAsyncScript(AWAIT_MUTATION_SCRIPT, pauseMillis) instanceof Boolean;
+        } catch (WebDriverException e) {
+            logger.debug("DOM mutation wait unavailable, polling instead: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+}
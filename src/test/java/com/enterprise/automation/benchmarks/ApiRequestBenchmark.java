@@ -0,0 +1,60 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.api.ApiHttpClientPool;
+import com.enterprise.automation.api.AsyncApiClient;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API request overhead: RestAssured spec construction as done by BaseApiTest, and full round
+ * trips to a local stub server through the pooled RestAssured client and the async client
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiRequestBenchmark {
+
+    private ApiHttpClientPool clientPool;
+    private AsyncApiClient asyncClient;
+
+    @Setup
+    public void setUp() {
+        clientPool = BenchmarkContext.getBean(ApiHttpClientPool.class);
+        asyncClient = BenchmarkContext.getBean(AsyncApiClient.class);
+    }
+
+    @Benchmark
+    public Object requestSpec() {
+        // Same chain as BaseApiTest.newRequest()
+        return clientPool.newRequestSpec()
+                .relaxedHTTPSValidation()
+                .log().all();
+    }
+
+    @Benchmark
+    public int pooledGet() {
+        return clientPool.newRequestSpec().get("/posts/1").statusCode();
+    }
+
+    @Benchmark
+    public int asyncGet() {
+        return asyncClient.get("/posts/1").join().statusCode();
+    }
+}
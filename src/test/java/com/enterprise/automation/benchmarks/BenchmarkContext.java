@@ -0,0 +1,83 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.AutomationFrameworkApplication;
+import com.sun.net.httpserver.HttpServer;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Framework context shared by the benchmarks of one JMH fork
+ *
+ * Boots the Spring application without a web server and points automation.api at a local
+ * stub HTTP server, so no benchmark depends on the network or a browser.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+final class BenchmarkContext {
+
+    static final byte[] STUB_BODY = "{\"id\":1,\"title\":\"benchmark\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static ConfigurableApplicationContext context;
+    private static HttpServer stubServer;
+
+    private BenchmarkContext() {
+    }
+
+    static synchronized <T> T getBean(Class<T> type) {
+        if (context == null) {
+            start();
+        }
+        return context.getBean(type);
+    }
+
+    static synchronized String getStubUrl() {
+        if (stubServer == null) {
+            start();
+        }
+        return "http://127.0.0.1:" + stubServer.getAddress().getPort();
+    }
+
+    private static void start() {
+        // Without TCP_NODELAY the JDK server's split header/body writes stall on delayed ACKs (~40ms)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            stubServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start benchmark stub server", e);
+        }
+        stubServer.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, STUB_BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(STUB_BODY);
+            }
+        });
+        stubServer.start();
+
+        SpringApplication application = new SpringApplication(AutomationFrameworkApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setBannerMode(Banner.Mode.OFF);
+        context = application.run(
+                "--automation.api.base-url=http://127.0.0.1:" + stubServer.getAddress().getPort(),
+                // Keep JMH output readable
+                "--logging.level.com.enterprise.automation=WARN",
+                "--logging.level.io.restassured=WARN");
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            context.close();
+            stubServer.stop(0);
+        }, "benchmark-context-shutdown"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.core.BrowserOptionsTemplates;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Browser options building: the per-session copy and the one-off template compilation
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BrowserOptionsBenchmark {
+
+    @Param({"chrome", "firefox", "edge"})
+    public String browser;
+
+    private BrowserOptionsTemplates templates;
+
+    @Setup
+    public void setUp() {
+        templates = BenchmarkContext.getBean(BrowserOptionsTemplates.class);
+    }
+
+    @Benchmark
+    public Object newOptions() {
+        return templates.newOptions(browser, true);
+    }
+
+    @Benchmark
+    public int compileTemplates() {
+        // Startup cost for all browsers; the browser parameter only picks the result to return
+        templates.compile();
+        return templates.getFingerprint(browser, true);
+    }
+}
@@ -0,0 +1,64 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.config.FrameworkConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FrameworkConfig binding from application.yaml, with and without parsing the YAML
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigBindingBenchmark {
+
+    private StandardEnvironment environment;
+
+    @Setup
+    public void setUp() throws IOException {
+        environment = loadEnvironment();
+    }
+
+    @Benchmark
+    public FrameworkConfig bind() {
+        return Binder.get(environment).bind("automation", FrameworkConfig.class).get();
+    }
+
+    @Benchmark
+    public FrameworkConfig loadAndBind() throws IOException {
+        return Binder.get(loadEnvironment()).bind("automation", FrameworkConfig.class).get();
+    }
+
+    private static StandardEnvironment loadEnvironment() throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        List<PropertySource<?>> documents = new YamlPropertySourceLoader()
+                .load("application.yaml", new ClassPathResource("application.yaml"));
+        // The first document holds the defaults; the rest are profile overrides
+        environment.getPropertySources().addLast(documents.get(0));
+        return environment;
+    }
+}
@@ -0,0 +1,177 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.core.DriverCommandListener;
+import com.enterprise.automation.core.MonitoringDriverDecorator;
+import com.enterprise.automation.core.WebDriverCommandMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-command cost of the listener wrapped around each driver
+ *
+ * decoration:
+ * - none: monitoring disabled, the raw driver
+ * - eventFiring: the previous EventFiringDecorator with a logging WebDriverListener
+ * - monitoring: MonitoringDriverDecorator with one listener
+ * - monitoringWithMetrics: MonitoringDriverDecorator with a listener and WebDriverCommandMetrics
+ *
+ * The default stub driver answers in-process, so the numbers are pure decoration overhead.
+ * Run against a local page in headless Chrome with -p driver=chrome.
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DriverDecorationBenchmark {
+
+    @Param({"none", "eventFiring", "monitoring", "monitoringWithMetrics"})
+    public String decoration;
+
+    @Param({"stub"})
+    public String driver;
+
+    private WebDriver original;
+    private WebDriver decorated;
+    private Path page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        original = driver.equals("chrome") ? openLocalPage() : stubDriver();
+        decorated = decorate(original);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (driver.equals("chrome")) {
+            original.quit();
+            Files.deleteIfExists(page);
+        }
+    }
+
+    @Benchmark
+    public Object wrap() {
+        // What WebDriverManager.addEventListener pays once per session
+        return decorate(original);
+    }
+
+    @Benchmark
+    public Object findElement() {
+        return decorated.findElement(By.id("submit"));
+    }
+
+    @Benchmark
+    public Object findElementAndRead() {
+        WebElement element = decorated.findElement(By.id("submit"));
+        return element.getText();
+    }
+
+    @Benchmark
+    public Object executeScript() {
+        return ((JavascriptExecutor) decorated).executeScript("return document.readyState");
+    }
+
+    private WebDriver decorate(WebDriver driver) {
+        switch (decoration) {
+            case "none":
+                return driver;
+            case "eventFiring":
+                return new EventFiringDecorator<>(new WebDriverListener() {
+                    @Override
+                    public void beforeGet(WebDriver driver, String url) {
+                    }
+
+                    @Override
+                    public void afterGet(WebDriver driver, String url) {
+                    }
+
+                    @Override
+                    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+                    }
+                }).decorate(driver);
+            case "monitoring":
+                return new MonitoringDriverDecorator(List.of(new DriverCommandListener() {
+                })).decorate(driver);
+            case "monitoringWithMetrics":
+                WebDriverCommandMetrics metrics = new WebDriverCommandMetrics();
+                ReflectionTestUtils.setField(metrics, "meterRegistry", new SimpleMeterRegistry());
+                return new MonitoringDriverDecorator(List.of(new DriverCommandListener() {
+                }, metrics.listenerFor("chrome"))).decorate(driver);
+            default:
+                throw new IllegalArgumentException("Unknown decoration: " + decoration);
+        }
+    }
+
+    private WebDriver openLocalPage() throws IOException {
+        page = Files.createTempFile("decoration-benchmark", ".html");
+        Files.writeString(page, "<html><body><button id=\"submit\">Submit</button></body></html>");
+
+        WebDriver chrome = new ChromeDriver(new ChromeOptions().addArguments("--headless=new"));
+        chrome.get(page.toUri().toString());
+        return chrome;
+    }
+
+    /**
+     * In-process driver whose findElement always returns the same element
+     */
+    private static WebDriver stubDriver() {
+        WebElement element = (WebElement) Proxy.newProxyInstance(DriverDecorationBenchmark.class.getClassLoader(),
+                new Class<?>[]{WebElement.class}, (proxy, method, args) -> stubAnswer(proxy, method, args, "Submit"));
+        return (WebDriver) Proxy.newProxyInstance(DriverDecorationBenchmark.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> stubAnswer(proxy, method, args, element));
+    }
+
+    private static Object stubAnswer(Object proxy, Method method, Object[] args, Object value) {
+        switch (method.getName()) {
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "stub";
+            case "executeScript":
+                return "complete";
+            case "findElement":
+            case "getText":
+                return value;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.enterprise.automation.benchmarks;
+
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.internal.shadowed.jackson.databind.ObjectMapper;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allure result serialization, the per-test cost paid on the test thread by every results writer
+ *
+ * @author Enterprise Automation Team
+ * @version 3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportingSerializationBenchmark {
+
+    private final ObjectMapper mapper = Allure2ModelJackson.createMapper();
+
+    private TestResult testResult;
+    private TestResultContainer container;
+
+    @Setup
+    public void setUp() {
+        testResult = sampleResult();
+        container = new TestResultContainer()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("LoginTest")
+                .setChildren(List.of(testResult.getUuid()));
+    }
+
+    @Benchmark
+    public byte[] testResult() throws IOException {
+        return mapper.writeValueAsBytes(testResult);
+    }
+
+    @Benchmark
+    public byte[] container() throws IOException {
+        return mapper.writeValueAsBytes(container);
+    }
+
+    /**
+     * A typical UI test: labels, parameters and a dozen steps
+     */
+    private static TestResult sampleResult() {
+        List<StepResult> steps = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            steps.add(new StepResult()
+                    .setName("Step " + i + ": click the submit button on the login page")
+                    .setStatus(Status.PASSED)
+                    .setStart(1_700_000_000_000L + i * 100)
+                    .setStop(1_700_000_000_050L + i * 100));
+        }
+
+        return new TestResult()
+                .setUuid(UUID.randomUUID().toString())
+                .setHistoryId(UUID.randomUUID().toString())
+                .setFullName("com.enterprise.automation.tests.LoginTest.testValidLogin")
+                .setName("testValidLogin")
+                .setStatus(Status.PASSED)
+                .setStart(1_700_000_000_000L)
+                .setStop(1_700_000_002_000L)
+                .setLabels(List.of(
+                        new Label().setName("suite").setValue("Regression"),
+                        new Label().setName("testClass").setValue("com.enterprise.automation.tests.LoginTest"),
+                        new Label().setName("thread").setValue("TestNG-test-1"),
+                        new Label().setName("framework").setValue("testng")))
+                .setParameters(List.of(
+                        new Parameter().setName("browser").setValue("chrome"),
+                        new Parameter().setName("user").setValue("standard_user")))
+                .setSteps(steps);
+    }
+}
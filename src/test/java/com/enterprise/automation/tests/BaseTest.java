@@ -1,25 +1,57 @@
 package com.enterprise.automation.tests;
 
+import com.enterprise.automation.core.BrowserAffinityInterceptor;
+import com.enterprise.automation.core.WebDriverCommandMetrics;
 import com.enterprise.automation.core.WebDriverManager;
+import com.enterprise.automation.reporting.PhaseTimingListener;
+import com.enterprise.automation.reporting.ScreenshotService;
+import com.enterprise.automation.reporting.SessionVideoRecorder;
 import org.openqa.selenium.WebDriver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.ITestResult;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+
+import java.lang.reflect.Method;
 
 @SpringBootTest
+@Listeners({PhaseTimingListener.class, BrowserAffinityInterceptor.class})
 public abstract class BaseTest extends AbstractTestNGSpringContextTests {
 
     @Autowired
     protected WebDriverManager webDriverManager;
 
+    @Autowired
+    protected ScreenshotService screenshotService;
+
+    @Autowired
+    protected SessionVideoRecorder videoRecorder;
+
+    @Autowired
+    protected WebDriverCommandMetrics commandMetrics;
+
     protected WebDriver driver;
 
+    @BeforeClass(alwaysRun = true)
+    public void warmUpSessions() {
+        // No-op unless automation.web.pool is enabled; only the first class pays for the launches
+        webDriverManager.warmUpPool();
+    }
+
     @BeforeMethod
-    public void setUp() {
+    public void setUp(Method method) {
         try {
-            driver = webDriverManager.initializeDriver();
+            // @RequiresBrowser on the test or its class, otherwise automation.web.browser
+            String browser = BrowserAffinityInterceptor.requiredBrowser(getClass(), method);
+            driver = browser == null
+                    ? webDriverManager.initializeDriver()
+                    : webDriverManager.initializeDriver(WebDriverManager.ExecutionMode.LOCAL, null, browser);
+            videoRecorder.start(driver);
         } catch (Exception e) {
             e.printStackTrace();  // print full details in console
             throw new RuntimeException("WebDriver initialization failed: " + e.getMessage(), e);
@@ -27,11 +59,26 @@ public abstract class BaseTest extends AbstractTestNGSpringContextTests {
     }
 
     @AfterMethod
-    public void tearDown() {
+    public void tearDown(ITestResult result) {
+        boolean failed = result.getStatus() == ITestResult.FAILURE;
+        if (failed && driver != null) {
+            // Capture before the session is released; a pooled session gets reset
+            screenshotService.captureOnFailure(driver, result.getMethod().getMethodName());
+        }
+        videoRecorder.stop(driver, failed, result.getMethod().getMethodName());
+
         try {
-            WebDriverManager.quitDriver();
+            webDriverManager.releaseDriver();
         } catch (Exception e) {
             System.err.println("Error during WebDriver teardown: " + e.getMessage());
         }
     }
+
+    @AfterSuite(alwaysRun = true)
+    public void reportCommandMetrics() {
+        // Spring may not have injected anything if the context failed to start
+        if (commandMetrics != null) {
+            commandMetrics.report();
+        }
+    }
 }
@@ -1,50 +1,60 @@
 package com.enterprise.automation.tests.api;
 
+import com.enterprise.automation.api.ApiHttpClientPool;
+import com.enterprise.automation.api.ApiRetryEngine;
+import com.enterprise.automation.api.AsyncApiClient;
+import com.enterprise.automation.api.VirtualThreadExecution;
 import com.enterprise.automation.config.FrameworkConfig;
-import io.restassured.RestAssured;
-import io.restassured.config.HttpClientConfig;
+import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
-import org.apache.http.client.config.RequestConfig;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.client.HttpClient;
-import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import java.util.concurrent.TimeUnit;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.BeforeMethod;
+
+import java.util.function.Supplier;
 
 @SpringBootTest
-public abstract class BaseApiTest {
+@VirtualThreadExecution
+public abstract class BaseApiTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    protected FrameworkConfig frameworkConfig;
+
+    @Autowired
+    protected ApiHttpClientPool apiHttpClientPool;
+
+    @Autowired
+    protected AsyncApiClient asyncApiClient;
 
     @Autowired
+    protected ApiRetryEngine apiRetryEngine;
+
     protected FrameworkConfig.Api apiConfig;
 
     protected RequestSpecification spec;
 
-    @BeforeEach
+    @BeforeMethod(alwaysRun = true)
     public void initSpec() {
-        // Configure timeout for the HTTP client
-        int timeoutMillis = apiConfig.getTimeout() * 1000;
-
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(timeoutMillis)
-                .setSocketTimeout(timeoutMillis)
-                .setConnectionRequestTimeout(timeoutMillis)
-                .build();
-
-        HttpClient httpClient = HttpClientBuilder.create()
-                .setDefaultRequestConfig(requestConfig)
-                .build();
-
-        RestAssured.config = RestAssured.config()
-                .httpClient(HttpClientConfig.httpClientConfig()
-                    .httpClientFactory(() -> httpClient)
-                );
-
-        // Build reusable request spec
-        spec = RestAssured.given()
-                .baseUri(apiConfig.getBaseUrl())
-                .headers(apiConfig.getHeaders())
+        apiConfig = frameworkConfig.getApi();
+        spec = newRequest();
+    }
+
+    /**
+     * Build a request spec on top of the shared connection pool.
+     * Use this instead of the spec field when methods of one class run in parallel.
+     */
+    protected RequestSpecification newRequest() {
+        return apiHttpClientPool.newRequestSpec()
                 .relaxedHTTPSValidation()
                 .log().all(); // Optional: to log request details
     }
+
+    /**
+     * Run a RestAssured call with the framework retry policy from automation.api.
+     * Only wrap idempotent calls, e.g. withRetry(() -> newRequest().get("/users/1")).
+     */
+    protected Response withRetry(Supplier<Response> call) {
+        return apiRetryEngine.execute(call, response -> ApiRetryEngine.isRetryableStatus(response.statusCode()));
+    }
 }